@@ -1,8 +1,9 @@
 package com.schedulify.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * Application configuration class.
@@ -11,12 +12,20 @@ import org.springframework.web.client.RestTemplate;
 public class AppConfig {
     
     /**
-     * Creates a RestTemplate bean to be used for HTTP requests.
-     * 
-     * @return RestTemplate instance
+     * Creates the bounded pool used to fan out a post to several platforms in parallel.
+     *
+     * @return ThreadPoolTaskExecutor instance
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public ThreadPoolTaskExecutor publishExecutor(
+            @Value("${social.publish.max-concurrency:32}") int maxConcurrency,
+            @Value("${social.publish.queue-capacity:512}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("publish-");
+        return executor;
     }
 } 
\ No newline at end of file
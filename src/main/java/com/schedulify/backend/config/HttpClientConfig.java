@@ -0,0 +1,262 @@
+package com.schedulify.backend.config;
+
+import com.schedulify.backend.service.socialmedia.AsyncHttpFormClient;
+import com.schedulify.backend.service.socialmedia.graph.GraphResponseParser;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Pooled HTTP client shared by all outbound calls to social media platforms.
+ * <p>
+ * A single Apache HttpClient 5 connection pool keeps connections (and TLS sessions) alive across
+ * calls. The pool is bounded in total and per host, so one slow platform cannot take every
+ * connection. Each platform gets its own RestTemplate with its own connect and read timeouts.
+ * A read timeout never exceeds the platform's publish deadline ({@code social.<platform>.publish-timeout}):
+ * cancelling a blocking call does not interrupt its socket I/O, so the socket timeout is what
+ * actually bounds a request that gets no answer.
+ * Leasing a connection from an exhausted pool fails after {@code social.http.connection-request-timeout}
+ * instead of blocking the caller indefinitely.
+ * <p>
+ * A second, non-blocking client with the same limits backs the async provider SPI.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${social.http.connect-timeout:5000}")
+    private long connectTimeoutMillis;
+
+    @Value("${social.http.read-timeout:30000}")
+    private long readTimeoutMillis;
+
+    @Value("${social.http.connection-request-timeout:2000}")
+    private long connectionRequestTimeoutMillis;
+
+    @Value("${social.facebook.graph-url:https://graph.facebook.com}")
+    private String facebookGraphUrl;
+
+    @Value("${social.facebook.http.connect-timeout:${social.http.connect-timeout:5000}}")
+    private long facebookConnectTimeoutMillis;
+
+    @Value("${social.facebook.http.read-timeout:${social.http.read-timeout:30000}}")
+    private long facebookReadTimeoutMillis;
+
+    @Value("${social.publish.timeout:20000}")
+    private long publishTimeoutMillis;
+
+    @Value("${social.facebook.publish-timeout:${social.publish.timeout:20000}}")
+    private long facebookPublishTimeoutMillis;
+
+    /**
+     * Creates the shared connection pool.
+     *
+     * @return PoolingHttpClientConnectionManager instance
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager socialConnectionManager(
+            @Value("${social.http.max-connections:200}") int maxConnections,
+            @Value("${social.http.max-connections-per-host:50}") int maxConnectionsPerHost,
+            @Value("${social.facebook.http.max-connections:${social.http.max-connections-per-host:50}}") int facebookMaxConnections,
+            @Value("${social.http.time-to-live:300000}") long timeToLiveMillis,
+            @Value("${social.http.validate-after-inactivity:2000}") long validateAfterInactivityMillis) {
+        HttpRoute facebookRoute = routeOf(facebookGraphUrl);
+        ConnectionConfig defaultConfig = connectionConfig(connectTimeoutMillis, defaultReadTimeout(),
+                timeToLiveMillis, validateAfterInactivityMillis);
+        ConnectionConfig facebookConfig = connectionConfig(facebookConnectTimeoutMillis, facebookReadTimeout(),
+                timeToLiveMillis, validateAfterInactivityMillis);
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerHost)
+                .setConnectionConfigResolver(route -> sameTarget(route, facebookRoute) ? facebookConfig : defaultConfig)
+                .build();
+        connectionManager.setMaxPerRoute(facebookRoute, facebookMaxConnections);
+        return connectionManager;
+    }
+
+    /**
+     * Creates the HTTP client backed by the shared pool.
+     * Automatic retries are disabled; publish retries are handled by the retry scheduler.
+     *
+     * @return CloseableHttpClient instance
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient socialHttpClient(
+            PoolingHttpClientConnectionManager socialConnectionManager,
+            @Value("${social.http.idle-eviction:30000}") long idleEvictionMillis) {
+        return HttpClients.custom()
+                .setConnectionManager(socialConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictionMillis))
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    /**
+     * Exports pool gauges (leased, available, pending connections) as {@code httpcomponents.httpclient.pool.*}.
+     *
+     * @return MeterBinder instance
+     */
+    @Bean
+    public MeterBinder socialConnectionPoolMetrics(PoolingHttpClientConnectionManager socialConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(socialConnectionManager, "social");
+    }
+
+    /**
+     * Creates the connection pool of the non-blocking client, with the same limits as the blocking one.
+     *
+     * @return PoolingAsyncClientConnectionManager instance
+     */
+    @Bean
+    public PoolingAsyncClientConnectionManager socialAsyncConnectionManager(
+            @Value("${social.http.max-connections:200}") int maxConnections,
+            @Value("${social.http.max-connections-per-host:50}") int maxConnectionsPerHost,
+            @Value("${social.facebook.http.max-connections:${social.http.max-connections-per-host:50}}") int facebookMaxConnections,
+            @Value("${social.http.time-to-live:300000}") long timeToLiveMillis,
+            @Value("${social.http.validate-after-inactivity:2000}") long validateAfterInactivityMillis) {
+        HttpRoute facebookRoute = routeOf(facebookGraphUrl);
+        ConnectionConfig defaultConfig = connectionConfig(connectTimeoutMillis, defaultReadTimeout(),
+                timeToLiveMillis, validateAfterInactivityMillis);
+        ConnectionConfig facebookConfig = connectionConfig(facebookConnectTimeoutMillis, facebookReadTimeout(),
+                timeToLiveMillis, validateAfterInactivityMillis);
+
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerHost)
+                .setConnectionConfigResolver(route -> sameTarget(route, facebookRoute) ? facebookConfig : defaultConfig)
+                .build();
+        connectionManager.setMaxPerRoute(facebookRoute, facebookMaxConnections);
+        return connectionManager;
+    }
+
+    /**
+     * Creates the non-blocking HTTP client used by the async provider SPI.
+     * A handful of I/O reactor threads serve every in-flight request.
+     *
+     * @return CloseableHttpAsyncClient instance, already started
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient socialAsyncHttpClient(
+            PoolingAsyncClientConnectionManager socialAsyncConnectionManager,
+            @Value("${social.http.io-threads:0}") int ioThreads,
+            @Value("${social.http.idle-eviction:30000}") long idleEvictionMillis) {
+        CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setConnectionManager(socialAsyncConnectionManager)
+                .setIOReactorConfig(IOReactorConfig.custom()
+                        .setIoThreadCount(ioThreads > 0 ? ioThreads : Runtime.getRuntime().availableProcessors())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictionMillis))
+                .disableAutomaticRetries()
+                .build();
+        client.start();
+        return client;
+    }
+
+    /**
+     * Exports gauges of the non-blocking client's pool.
+     *
+     * @return MeterBinder instance
+     */
+    @Bean
+    public MeterBinder socialAsyncConnectionPoolMetrics(PoolingAsyncClientConnectionManager socialAsyncConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(socialAsyncConnectionManager, "social-async");
+    }
+
+    /**
+     * Creates the non-blocking client used for Facebook Graph API calls, with the Facebook timeouts.
+     *
+     * @return AsyncHttpFormClient instance
+     */
+    @Bean
+    public AsyncHttpFormClient facebookAsyncHttpClient(CloseableHttpAsyncClient socialAsyncHttpClient) {
+        return new AsyncHttpFormClient(socialAsyncHttpClient, Duration.ofMillis(facebookReadTimeout()),
+                GraphResponseParser::toException);
+    }
+
+    /**
+     * Creates the default RestTemplate bean to be used for HTTP requests.
+     *
+     * @return RestTemplate instance
+     */
+    @Bean
+    @Primary
+    public RestTemplate restTemplate(CloseableHttpClient socialHttpClient) {
+        return new RestTemplate(requestFactory(socialHttpClient, defaultReadTimeout()));
+    }
+
+    /**
+     * Creates the RestTemplate used for Facebook Graph API calls, with the Facebook timeouts.
+     *
+     * @return RestTemplate instance
+     */
+    @Bean
+    public RestTemplate facebookRestTemplate(CloseableHttpClient socialHttpClient) {
+        return new RestTemplate(requestFactory(socialHttpClient, facebookReadTimeout()));
+    }
+
+    private long defaultReadTimeout() {
+        return Math.min(readTimeoutMillis, publishTimeoutMillis);
+    }
+
+    private long facebookReadTimeout() {
+        return Math.min(facebookReadTimeoutMillis, facebookPublishTimeoutMillis);
+    }
+
+    private HttpComponentsClientHttpRequestFactory requestFactory(CloseableHttpClient httpClient, long readTimeout) {
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setConnectionRequestTimeout(Duration.ofMillis(connectionRequestTimeoutMillis));
+        factory.setReadTimeout(Duration.ofMillis(readTimeout));
+        return factory;
+    }
+
+    private static ConnectionConfig connectionConfig(long connectTimeout, long socketTimeout,
+                                                     long timeToLive, long validateAfterInactivity) {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                .setSocketTimeout(Timeout.ofMilliseconds(socketTimeout))
+                .setTimeToLive(TimeValue.ofMilliseconds(timeToLive))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivity))
+                .build();
+    }
+
+    private static HttpRoute routeOf(String url) {
+        URI uri = URI.create(url);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure);
+    }
+
+    private static boolean sameTarget(HttpRoute route, HttpRoute target) {
+        return route.getTargetHost().equals(target.getTargetHost());
+    }
+}
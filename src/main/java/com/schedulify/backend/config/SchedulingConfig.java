@@ -0,0 +1,55 @@
+package com.schedulify.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Scheduling configuration for background publishing jobs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * Worker pool used by the post dispatcher to claim posts and start publishing them.
+     * It is bounded so that a backlog shows up as rejected claims, which are released and retried.
+     *
+     * @return ThreadPoolTaskExecutor instance
+     */
+    @Bean
+    public ThreadPoolTaskExecutor dispatcherExecutor(
+            @Value("${scheduler.dispatcher.workers:16}") int workers,
+            @Value("${scheduler.dispatcher.max-in-flight:256}") int maxInFlight) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(2 * maxInFlight);
+        executor.setThreadNamePrefix("dispatcher-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Pool that records publish results once the remote calls have completed.
+     * The queue is unbounded on purpose: a result that cannot be recorded leaves the post PUBLISHING
+     * until recovery republishes it, so recording must never be rejected for lack of capacity.
+     * Its backlog is bounded by {@code max-in-flight} anyway.
+     *
+     * @return ThreadPoolTaskExecutor instance
+     */
+    @Bean
+    public ThreadPoolTaskExecutor publishRecordExecutor(
+            @Value("${scheduler.dispatcher.record-workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("publish-record-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
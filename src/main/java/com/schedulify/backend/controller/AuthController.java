@@ -0,0 +1,30 @@
+package com.schedulify.backend.controller;
+
+import com.schedulify.backend.model.dto.BaseApiResponse;
+import com.schedulify.backend.model.dto.request.LoginRequest;
+import com.schedulify.backend.model.dto.request.RefreshTokenRequest;
+import com.schedulify.backend.model.dto.response.JwtAuthResponse;
+import com.schedulify.backend.service.AuthService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    private final AuthService authService;
+
+    public AuthController(AuthService authService) {
+        this.authService = authService;
+    }
+
+    @PostMapping("/login")
+    public ResponseEntity<BaseApiResponse<JwtAuthResponse>> login(@RequestBody LoginRequest request) {
+        return authService.login(request);
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<BaseApiResponse<JwtAuthResponse>> refresh(@RequestBody RefreshTokenRequest request) {
+        return authService.refresh(request);
+    }
+}
@@ -1,15 +1,19 @@
 package com.schedulify.backend.controller;
 
+import com.schedulify.backend.model.dto.response.CursorPageDTO;
 import com.schedulify.backend.model.dto.response.PostDTO;
 import com.schedulify.backend.model.dto.BaseApiResponse;
 import com.schedulify.backend.model.enums.Platform;
+import com.schedulify.backend.model.enums.PostStatus;
 import com.schedulify.backend.service.PostService;
+import com.schedulify.backend.service.PostSummaryService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Map;
 
@@ -21,9 +25,11 @@ import java.util.Map;
 public class PostController {
 
     private final PostService postService;
+    private final PostSummaryService postSummaryService;
 
-    public PostController(PostService postService) {
+    public PostController(PostService postService, PostSummaryService postSummaryService) {
         this.postService = postService;
+        this.postSummaryService = postSummaryService;
     }
 
     @GetMapping
@@ -32,6 +38,22 @@ public class PostController {
         return postService.getPosts(pageable);
     }
 
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_CONTENT_MANAGER', 'ROLE_SOCIAL_MEDIA_MANAGER')")
+    public ResponseEntity<BaseApiResponse<CursorPageDTO<PostDTO>>> getPostsAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return postService.getPostsAfter(cursor, size);
+    }
+
+    @GetMapping("/summary")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_CONTENT_MANAGER', 'ROLE_SOCIAL_MEDIA_MANAGER')")
+    public ResponseEntity<StreamingResponseBody> getPostSummaries(
+            @RequestParam(required = false) PostStatus status,
+            @RequestParam(defaultValue = "100") int limit) {
+        return postSummaryService.streamPostSummaries(status, limit);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_CONTENT_MANAGER', 'ROLE_SOCIAL_MEDIA_MANAGER')")
     public ResponseEntity<BaseApiResponse<PostDTO>> getPost(@PathVariable Long id) {
@@ -0,0 +1,11 @@
+package com.schedulify.backend.exception;
+
+/**
+ * Thrown (or recorded) when a call to a social media platform is short-circuited because the
+ * platform's circuit breaker is open.
+ */
+public class CircuitOpenException extends RuntimeException {
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.schedulify.backend.exception;
+
+import com.schedulify.backend.service.socialmedia.graph.GraphError;
+import lombok.Getter;
+
+/**
+ * Thrown when the Facebook Graph API answers with an error.
+ * The HTTP-level exception is kept as the cause, so transient errors are still classified by status.
+ */
+@Getter
+public class FacebookGraphException extends RuntimeException {
+
+    private final int status;
+    private final GraphError error;
+
+    public FacebookGraphException(int status, GraphError error, Throwable cause) {
+        super(error != null ? "(#" + error.code() + ") " + error.message() : "Graph API error " + status, cause);
+        this.status = status;
+        this.error = error;
+    }
+}
@@ -0,0 +1,15 @@
+package com.schedulify.backend.exception;
+
+/**
+ * Recorded when a publish request was sent to a platform but no answer arrived in time.
+ * The platform may or may not have published the post, so it must not be retried automatically.
+ */
+public class PublishOutcomeUnknownException extends RuntimeException {
+    public PublishOutcomeUnknownException(String message) {
+        super(message);
+    }
+
+    public PublishOutcomeUnknownException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.schedulify.backend.exception;
+
+/**
+ * Thrown when a call to a social media platform would exceed its configured rate limit
+ * for longer than the caller is allowed to wait.
+ */
+public class RateLimitExceededException extends RuntimeException {
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
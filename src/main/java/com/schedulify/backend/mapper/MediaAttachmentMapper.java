@@ -14,5 +14,6 @@ public interface MediaAttachmentMapper {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
     @Mapping(target = "active", constant = "true")
+    @Mapping(target = "contentHash", ignore = true)
     MediaAttachment toEntity(MediaAttachmentDTO mediaAttachmentDTO);
 }
\ No newline at end of file
@@ -21,5 +21,6 @@ public interface PostMapper {
     @Mapping(target = "active", constant = "true")
     @Mapping(target = "platformPosts", ignore = true)
     @Mapping(target = "mediaAttachments", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Post toEntity(PostDTO postDTO);
 }
\ No newline at end of file
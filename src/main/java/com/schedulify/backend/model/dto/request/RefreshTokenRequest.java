@@ -0,0 +1,10 @@
+package com.schedulify.backend.model.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RefreshTokenRequest {
+    private String refreshToken;
+}
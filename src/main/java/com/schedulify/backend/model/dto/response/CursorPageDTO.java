@@ -0,0 +1,24 @@
+package com.schedulify.backend.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of a cursor-paginated listing. Pass {@code nextCursor} back to get the following page;
+ * it is null on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    @Builder.Default
+    private List<T> content = new ArrayList<>();
+    private String nextCursor;
+    private boolean hasNext;
+}
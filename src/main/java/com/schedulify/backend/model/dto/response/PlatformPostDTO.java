@@ -29,6 +29,9 @@ public class PlatformPostDTO {
     private PostStatus status;
     private String errorMessage;
     private LocalDateTime publishedAt;
+    private int attemptCount;
+    private LocalDateTime nextAttemptAt;
+    private String lastErrorClass;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 } 
\ No newline at end of file
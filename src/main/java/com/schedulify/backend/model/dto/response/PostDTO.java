@@ -27,6 +27,8 @@ public class PostDTO {
     private String content;
     private String sourceLink;
     private Set<Platform> targetPlatforms = new HashSet<>();
+    @Builder.Default
+    private Set<Long> targetAccountIds = new HashSet<>();
     private List<MediaAttachmentDTO> mediaAttachments = new ArrayList<>();
     private List<PlatformPostDTO> platformPosts = new ArrayList<>();
     private PostStatus status;
@@ -36,4 +38,9 @@ public class PostDTO {
     private LocalDateTime publishedAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    /**
+     * Version the post was read at; an update sent with a stale version is rejected.
+     */
+    private Long version;
 } 
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.schedulify.backend.model.dto.response;
+
+import com.schedulify.backend.model.enums.Platform;
+import com.schedulify.backend.model.enums.PostStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * List view of a post: a preview of its content and how many of its platform posts are in each status.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSummaryDTO {
+    private Long id;
+    private String title;
+    private String contentPreview;
+    private PostStatus status;
+    private LocalDateTime scheduledTime;
+    private LocalDateTime publishedAt;
+    private LocalDateTime createdAt;
+    @Builder.Default
+    private Map<Platform, Map<PostStatus, Integer>> platformStatusCounts = new EnumMap<>(Platform.class);
+}
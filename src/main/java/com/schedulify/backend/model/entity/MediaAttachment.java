@@ -31,6 +31,12 @@ public class MediaAttachment extends BaseEntity {
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private MediaType mediaType;
+
+    /**
+     * SHA-256 of the stored file (hex), computed on upload; null for older attachments.
+     */
+    @Column(length = 64)
+    private String contentHash;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
@@ -0,0 +1,49 @@
+package com.schedulify.backend.model.entity;
+
+import com.schedulify.backend.model.enums.Platform;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Media already uploaded to a platform for a social account, so the same content can be
+ * referenced by its platform-side ID instead of being uploaded again.
+ */
+@Entity
+@Table(name = "media_uploads", uniqueConstraints = @UniqueConstraint(
+        name = "uk_media_uploads_content_account_platform",
+        columnNames = {"content_hash", "social_account_id", "platform"}))
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class MediaUpload extends BaseEntity {
+
+    /**
+     * SHA-256 of the file content (hex), see {@link MediaAttachment#getContentHash()}.
+     */
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "social_account_id", nullable = false)
+    private SocialAccount socialAccount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Platform platform;
+
+    /**
+     * ID of the media on the platform.
+     */
+    @Column(nullable = false)
+    private String mediaId;
+
+    /**
+     * When the platform stops accepting the media ID.
+     */
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -50,4 +51,69 @@ public class PlatformPost extends BaseEntity {
     
     @Column
     private LocalDateTime publishedAt;
+
+    /**
+     * Number of publish attempts made so far.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int attemptCount;
+
+    /**
+     * When the next retry is due; null if no retry is pending.
+     */
+    @Column
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * Class name of the error that caused the last failed attempt.
+     */
+    @Column
+    private String lastErrorClass;
+
+    /**
+     * When the platform post was last claimed for publishing; used to recover stuck attempts.
+     */
+    @Column
+    private LocalDateTime claimedAt;
+
+    /**
+     * Optimistic lock; also incremented by the status transition queries of {@code PlatformPostRepository}.
+     */
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
+    /**
+     * Create a detached copy carrying everything a provider needs to publish this post.
+     * Providers mutate the copy, so a late result can be discarded without touching this entity.
+     */
+    public PlatformPost copyForPublishing() {
+        PlatformPost copy = new PlatformPost();
+        copy.setId(getId());
+        copy.setPost(post);
+        copy.setPlatform(platform);
+        copy.setSocialAccount(socialAccount);
+        copy.setPlatformContent(platformContent);
+        copy.setPlatformPostId(platformPostId);
+        copy.setPlatformPostUrl(platformPostUrl);
+        copy.setStatus(status);
+        copy.setErrorMessage(errorMessage);
+        copy.setPublishedAt(publishedAt);
+        copy.setLastErrorClass(lastErrorClass);
+        return copy;
+    }
+
+    /**
+     * Copy the outcome of a publish attempt onto this post.
+     */
+    public void applyOutcome(PlatformPost attempt) {
+        this.platformPostId = attempt.getPlatformPostId();
+        this.platformPostUrl = attempt.getPlatformPostUrl();
+        this.status = attempt.getStatus();
+        this.errorMessage = attempt.getErrorMessage();
+        this.publishedAt = attempt.getPublishedAt();
+        this.lastErrorClass = attempt.getLastErrorClass();
+    }
 } 
\ No newline at end of file
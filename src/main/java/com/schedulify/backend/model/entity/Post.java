@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -35,6 +36,15 @@ public class Post extends BaseEntity {
     @CollectionTable(name = "post_platforms", joinColumns = @JoinColumn(name = "post_id"))
     @Enumerated(EnumType.STRING)
     private Set<Platform> targetPlatforms = new HashSet<>();
+
+    /**
+     * Social accounts of the author to publish to. Target platforms without a selected account
+     * publish to the author's first connected account of that platform.
+     */
+    @ElementCollection
+    @CollectionTable(name = "post_target_accounts", joinColumns = @JoinColumn(name = "post_id"))
+    @Column(name = "social_account_id")
+    private Set<Long> targetAccountIds = new HashSet<>();
     
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<MediaAttachment> mediaAttachments = new ArrayList<>();
@@ -55,4 +65,18 @@ public class Post extends BaseEntity {
     
     @Column
     private LocalDateTime publishedAt;
+
+    /**
+     * When the post was last claimed for publishing; used to recover posts stuck in PUBLISHING.
+     */
+    @Column
+    private LocalDateTime claimedAt;
+
+    /**
+     * Optimistic lock; also incremented by the status transition queries of {@code PostRepository}.
+     */
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
 } 
\ No newline at end of file
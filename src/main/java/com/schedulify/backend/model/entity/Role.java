@@ -1,5 +1,6 @@
 package com.schedulify.backend.model.entity;
 
+import com.schedulify.backend.service.user.UserCacheInvalidator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -13,6 +14,7 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "roles")
+@EntityListeners(UserCacheInvalidator.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -36,6 +37,25 @@ public class SocialAccount extends BaseEntity {
     
     @Column
     private LocalDateTime tokenExpiryDate;
+
+    /**
+     * Consecutive failed background token refreshes.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int tokenRefreshFailures;
+
+    /**
+     * Error of the last failed token refresh.
+     */
+    @Column(length = 1000)
+    private String lastRefreshError;
+
+    /**
+     * Earliest time the background refresher may try this account again; also serves as its claim.
+     */
+    @Column
+    private LocalDateTime nextRefreshAt;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -1,5 +1,6 @@
 package com.schedulify.backend.model.entity;
 
+import com.schedulify.backend.service.user.UserCacheInvalidator;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -8,6 +9,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -16,6 +18,7 @@ import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserCacheInvalidator.class)
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -66,12 +69,17 @@ public class User extends BaseEntity implements UserDetails {
         return email;
     }
 
+    // Role membership changes touch the user so that they count as an update of it (see UserCacheInvalidator)
     public void addRole(Role role) {
-        this.roles.add(role);
+        if (this.roles.add(role)) {
+            setUpdatedAt(LocalDateTime.now());
+        }
     }
 
     public void removeRole(Role role) {
-        this.roles.remove(role);
+        if (this.roles.remove(role)) {
+            setUpdatedAt(LocalDateTime.now());
+        }
     }
 
     public List<String> getRolesList() {
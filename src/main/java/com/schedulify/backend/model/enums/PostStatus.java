@@ -6,6 +6,11 @@ package com.schedulify.backend.model.enums;
 public enum PostStatus {
     DRAFT,
     SCHEDULED,
+    /**
+     * Claimed by a dispatcher and being sent to the platforms. The status CHECK constraints that
+     * ddl-auto generated do not allow it; migration V1_1 replaces them.
+     */
+    PUBLISHING,
     PUBLISHED,
     FAILED,
     CANCELED
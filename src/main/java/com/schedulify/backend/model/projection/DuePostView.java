@@ -0,0 +1,14 @@
+package com.schedulify.backend.model.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight projection of a post that is due (or about to be due) for publishing.
+ * Used by the dispatcher so that claiming a batch does not hydrate full Post entities.
+ */
+public interface DuePostView {
+
+    Long getId();
+
+    LocalDateTime getScheduledTime();
+}
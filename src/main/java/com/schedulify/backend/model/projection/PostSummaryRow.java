@@ -0,0 +1,21 @@
+package com.schedulify.backend.model.projection;
+
+import com.schedulify.backend.model.enums.Platform;
+import com.schedulify.backend.model.enums.PostStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the post summary query: the list columns of a post joined with one of its platform
+ * posts. Posts without platform posts yield a single row with a null platform and platform status.
+ */
+public record PostSummaryRow(Long id,
+                             String title,
+                             String contentPreview,
+                             PostStatus status,
+                             LocalDateTime scheduledTime,
+                             LocalDateTime publishedAt,
+                             LocalDateTime createdAt,
+                             Platform platform,
+                             PostStatus platformStatus) {
+}
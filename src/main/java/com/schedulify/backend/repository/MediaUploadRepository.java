@@ -0,0 +1,62 @@
+package com.schedulify.backend.repository;
+
+import com.schedulify.backend.model.entity.MediaUpload;
+import com.schedulify.backend.model.enums.Platform;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for MediaUpload entity.
+ */
+@Repository
+public interface MediaUploadRepository extends JpaRepository<MediaUpload, Long> {
+
+    /**
+     * Unexpired uploads of the given contents for an account on a platform.
+     */
+    @Query("SELECT mu FROM MediaUpload mu WHERE mu.socialAccount.id = :accountId " +
+            "AND mu.platform = :platform AND mu.contentHash IN :hashes AND mu.expiresAt > :now")
+    List<MediaUpload> findValid(@Param("accountId") Long accountId,
+                                @Param("platform") Platform platform,
+                                @Param("hashes") Collection<String> hashes,
+                                @Param("now") LocalDateTime now);
+
+    /**
+     * Insert or replace the upload of a content for an account on a platform.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO media_uploads (id, content_hash, social_account_id, platform, media_id, expires_at, " +
+            "created_at, updated_at, is_active) " +
+            "VALUES (nextval('media_uploads_seq'), :hash, :accountId, :platform, :mediaId, :expiresAt, :now, :now, true) " +
+            "ON CONFLICT (content_hash, social_account_id, platform) " +
+            "DO UPDATE SET media_id = EXCLUDED.media_id, expires_at = EXCLUDED.expires_at, updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    void upsert(@Param("hash") String contentHash,
+                @Param("accountId") Long accountId,
+                @Param("platform") String platform,
+                @Param("mediaId") String mediaId,
+                @Param("expiresAt") LocalDateTime expiresAt,
+                @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MediaUpload mu WHERE mu.socialAccount.id = :accountId " +
+            "AND mu.platform = :platform AND mu.mediaId IN :mediaIds")
+    int deleteByMediaIds(@Param("accountId") Long accountId,
+                         @Param("platform") Platform platform,
+                         @Param("mediaIds") Collection<String> mediaIds);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MediaUpload mu WHERE mu.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -6,8 +6,13 @@ import com.schedulify.backend.model.entity.SocialAccount;
 import com.schedulify.backend.model.enums.Platform;
 import com.schedulify.backend.model.enums.PostStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,4 +34,53 @@ public interface PlatformPostRepository extends JpaRepository<PlatformPost, Long
             Post post, Platform platform, SocialAccount socialAccount);
 
     void deleteByPost(Post post);
-} 
\ No newline at end of file
+
+    /**
+     * Lock the failed platform posts whose next retry is due, skipping rows locked elsewhere.
+     */
+    @Query(value = "SELECT pp.id FROM platform_posts pp " +
+            "WHERE pp.status = 'FAILED' AND pp.next_attempt_at <= :now " +
+            "ORDER BY pp.next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> lockDueRetries(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Claim failed platform posts for a retry by moving them to PUBLISHING.
+     * Like every status transition here, this is a conditional update that increments the version.
+     *
+     * @return Number of platform posts that were claimed
+     */
+    @Modifying
+    @Query("UPDATE PlatformPost pp SET pp.status = com.schedulify.backend.model.enums.PostStatus.PUBLISHING, " +
+            "pp.nextAttemptAt = null, pp.claimedAt = :now, pp.updatedAt = :now, pp.version = pp.version + 1 " +
+            "WHERE pp.id IN :ids AND pp.status = com.schedulify.backend.model.enums.PostStatus.FAILED")
+    int claimForRetry(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Hand a claimed retry back so it is picked up on the next poll.
+     */
+    @Modifying
+    @Query("UPDATE PlatformPost pp SET pp.status = com.schedulify.backend.model.enums.PostStatus.FAILED, " +
+            "pp.nextAttemptAt = :now, pp.claimedAt = null, pp.updatedAt = :now, pp.version = pp.version + 1 " +
+            "WHERE pp.id = :id AND pp.status = com.schedulify.backend.model.enums.PostStatus.PUBLISHING")
+    int releaseRetry(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Reset the in-flight platform posts of requeued posts; their outcome is unknown.
+     */
+    @Modifying
+    @Query("UPDATE PlatformPost pp SET pp.status = com.schedulify.backend.model.enums.PostStatus.DRAFT, " +
+            "pp.claimedAt = null, pp.updatedAt = :now, pp.version = pp.version + 1 " +
+            "WHERE pp.post.id IN :postIds AND pp.status = com.schedulify.backend.model.enums.PostStatus.PUBLISHING")
+    int resetInFlight(@Param("postIds") Collection<Long> postIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Fail retries that have been PUBLISHING since before the cutoff and make them due again.
+     */
+    @Modifying
+    @Query("UPDATE PlatformPost pp SET pp.status = com.schedulify.backend.model.enums.PostStatus.FAILED, " +
+            "pp.errorMessage = 'Interrupted while publishing', pp.nextAttemptAt = :now, " +
+            "pp.claimedAt = null, pp.updatedAt = :now, pp.version = pp.version + 1 " +
+            "WHERE pp.status = com.schedulify.backend.model.enums.PostStatus.PUBLISHING AND pp.claimedAt < :cutoff")
+    int failStaleAttempts(@Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+}
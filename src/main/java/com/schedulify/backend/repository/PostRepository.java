@@ -3,25 +3,156 @@ package com.schedulify.backend.repository;
 import com.schedulify.backend.model.entity.Post;
 import com.schedulify.backend.model.entity.User;
 import com.schedulify.backend.model.enums.PostStatus;
+import com.schedulify.backend.model.projection.DuePostView;
+import com.schedulify.backend.model.projection.PostSummaryRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Post entity.
  */
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    int CONTENT_PREVIEW_LENGTH = 200;
+
+    /**
+     * Page of an author's posts. Their collections and accounts are loaded in batches on first
+     * access ({@code hibernate.default_batch_fetch_size}), as collections cannot be fetch-joined
+     * into a paged query.
+     */
+    @EntityGraph(attributePaths = "author")
     Page<Post> findByAuthor(User author, Pageable pageable);
 
     Optional<Post> findByIdAndAuthor(Long id, User author);
 
+    /**
+     * Window of an author's posts, newest first, after a keyset position on {@code (createdAt, id)}.
+     * Served by {@code idx_posts_author_created} without OFFSET or a count query.
+     */
+    @EntityGraph(attributePaths = "author")
+    Window<Post> findByAuthorOrderByCreatedAtDescIdDesc(User author, ScrollPosition position, Limit limit);
+
+    /**
+     * Post with its author, platform posts and their accounts fetched in one query, for building a
+     * {@code PostDTO}. Attachments are loaded by a second query on access.
+     */
+    @EntityGraph(attributePaths = {"author", "platformPosts", "platformPosts.socialAccount"})
+    Optional<Post> findWithDetailsById(Long id);
+
+    @EntityGraph(attributePaths = {"author", "platformPosts", "platformPosts.socialAccount"})
+    Optional<Post> findWithDetailsByIdAndAuthor(Long id, User author);
+
     List<Post> findByStatus(PostStatus status);
 
+    /**
+     * Stream the list columns of an author's newest posts, one row per platform post. Rows of a post
+     * are consecutive. Must be consumed inside a transaction and closed.
+     * <p>
+     * The posts are limited in a subquery before the join, so the database reads at most
+     * {@code limit} posts off {@code idx_posts_author_created} whatever the size of the history.
+     *
+     * @param status Only posts in this status, or all posts if null
+     * @param limit  Maximum number of posts (not rows)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("SELECT new com.schedulify.backend.model.projection.PostSummaryRow(p.id, p.title, " +
+            "SUBSTRING(p.content, 1, " + CONTENT_PREVIEW_LENGTH + "), p.status, p.scheduledTime, p.publishedAt, " +
+            "p.createdAt, pp.platform, pp.status) " +
+            "FROM Post p LEFT JOIN p.platformPosts pp " +
+            "WHERE p.id IN (SELECT newest.id FROM Post newest " +
+            "WHERE newest.author.id = :authorId AND (:status IS NULL OR newest.status = :status) " +
+            "ORDER BY newest.createdAt DESC, newest.id DESC LIMIT :limit) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Stream<PostSummaryRow> streamSummaries(@Param("authorId") Long authorId, @Param("status") PostStatus status,
+                                           @Param("limit") int limit);
+
     List<Post> findByStatusAndScheduledTimeLessThanEqual(PostStatus status, LocalDateTime now);
-} 
\ No newline at end of file
+
+    <T> List<T> findByStatusAndScheduledTimeLessThanEqual(PostStatus status, LocalDateTime now, Class<T> type);
+
+    /**
+     * Lock the oldest due SCHEDULED posts, skipping rows already locked by another dispatcher.
+     * Must be called inside a transaction and followed by a status transition of the returned ids.
+     */
+    @Query(value = "SELECT p.id AS id, p.scheduled_time AS scheduledTime FROM posts p " +
+            "WHERE p.status = 'SCHEDULED' AND p.scheduled_time <= :now " +
+            "ORDER BY p.scheduled_time LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<DuePostView> lockDuePosts(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Lock the given posts if they are still SCHEDULED and due, skipping rows locked elsewhere.
+     */
+    @Query(value = "SELECT p.id AS id, p.scheduled_time AS scheduledTime FROM posts p " +
+            "WHERE p.id IN (:ids) AND p.status = 'SCHEDULED' AND p.scheduled_time <= :now " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<DuePostView> lockDuePostsByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Claim the given posts for publishing if they are still in one of the expected statuses.
+     * <p>
+     * Like every status transition here, this is a conditional update that increments the
+     * version, so of concurrent claims only one succeeds and entities read before it can no
+     * longer be written back.
+     *
+     * @return Number of posts that were claimed
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.status = com.schedulify.backend.model.enums.PostStatus.PUBLISHING, " +
+            "p.claimedAt = :now, p.updatedAt = :now, p.version = p.version + 1 " +
+            "WHERE p.id IN :ids AND p.status IN :from")
+    int claimForPublishing(@Param("ids") Collection<Long> ids,
+                           @Param("from") Collection<PostStatus> from,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * Find posts that have been PUBLISHING since before the cutoff, i.e. whose publisher died.
+     */
+    @Query("SELECT p.id FROM Post p WHERE p.status = com.schedulify.backend.model.enums.PostStatus.PUBLISHING " +
+            "AND p.claimedAt < :cutoff")
+    List<Long> findStalePublishing(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Put stale PUBLISHING posts back in the queue so the dispatcher picks them up again.
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.status = com.schedulify.backend.model.enums.PostStatus.SCHEDULED, " +
+            "p.scheduledTime = COALESCE(p.scheduledTime, :now), p.claimedAt = null, p.updatedAt = :now, " +
+            "p.version = p.version + 1 " +
+            "WHERE p.id IN :ids AND p.status = com.schedulify.backend.model.enums.PostStatus.PUBLISHING")
+    int requeue(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Move the given posts from one status to another.
+     * Rows that are no longer in the expected status are left untouched.
+     *
+     * @return Number of posts that were actually transitioned
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.status = :to, p.updatedAt = :now, p.version = p.version + 1 " +
+            "WHERE p.id IN :ids AND p.status = :from")
+    int transitionStatus(@Param("ids") Collection<Long> ids,
+                         @Param("from") PostStatus from,
+                         @Param("to") PostStatus to,
+                         @Param("now") LocalDateTime now);
+}
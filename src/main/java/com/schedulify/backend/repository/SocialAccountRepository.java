@@ -4,8 +4,13 @@ import com.schedulify.backend.model.entity.SocialAccount;
 import com.schedulify.backend.model.entity.User;
 import com.schedulify.backend.model.enums.Platform;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,5 +26,52 @@ public interface SocialAccountRepository extends JpaRepository<SocialAccount, Lo
 
     Optional<SocialAccount> findByPlatformAndAccountId(Platform platform, String accountId);
 
-    List<SocialAccount> findByPlatformAndActiveTrue(Platform platform);
+    /**
+     * Active accounts of a user on any of the given platforms, oldest first.
+     */
+    List<SocialAccount> findByUserAndActiveTrueAndPlatformInOrderByIdAsc(User user, Collection<Platform> platforms);
+
+    /**
+     * Lock active accounts whose token expires before the horizon and that are not backing off
+     * or claimed, soonest expiry first, skipping rows locked elsewhere.
+     */
+    @Query(value = "SELECT sa.id FROM social_accounts sa " +
+            "WHERE sa.is_active = true AND sa.token_expiry_date <= :horizon " +
+            "AND (sa.next_refresh_at IS NULL OR sa.next_refresh_at <= :now) " +
+            "ORDER BY sa.token_expiry_date LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> lockDueTokenRefreshes(@Param("horizon") LocalDateTime horizon,
+                                     @Param("now") LocalDateTime now,
+                                     @Param("limit") int limit);
+
+    /**
+     * Claim accounts for a token refresh until the given time.
+     */
+    @Modifying
+    @Query("UPDATE SocialAccount sa SET sa.nextRefreshAt = :claimedUntil WHERE sa.id IN :ids")
+    int claimForTokenRefresh(@Param("ids") Collection<Long> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    /**
+     * Store a refreshed token, but only if the account still has the token that was refreshed,
+     * and clear the background refresh state.
+     *
+     * @return 1 if the token was stored, 0 if another token was stored in the meantime
+     */
+    @Modifying
+    @Query("UPDATE SocialAccount sa SET sa.accessToken = :accessToken, sa.refreshToken = :refreshToken, " +
+            "sa.tokenExpiryDate = :tokenExpiryDate, sa.tokenRefreshFailures = 0, sa.lastRefreshError = null, " +
+            "sa.nextRefreshAt = null, sa.updatedAt = :now " +
+            "WHERE sa.id = :id AND sa.accessToken = :previousAccessToken")
+    int replaceToken(@Param("id") Long id,
+                     @Param("previousAccessToken") String previousAccessToken,
+                     @Param("accessToken") String accessToken,
+                     @Param("refreshToken") String refreshToken,
+                     @Param("tokenExpiryDate") LocalDateTime tokenExpiryDate,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * Number of active accounts whose last refreshes all failed, at least the given number of times.
+     */
+    @Query("SELECT COUNT(sa) FROM SocialAccount sa WHERE sa.active = true AND sa.tokenRefreshFailures >= :failures")
+    long countFailingTokenRefreshes(@Param("failures") int failures);
 } 
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.schedulify.backend.security;
+
+import com.schedulify.backend.utils.AppConstants;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates requests carrying an {@code Authorization: Bearer <access token>} header.
+ * <p>
+ * The user and roles come from the verified token claims, so no session and no user lookup are
+ * needed. Requests without a valid token continue unauthenticated and are rejected by the
+ * authorization rules where authentication is required.
+ */
+@Slf4j
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(AppConstants.HEADER_STRING);
+        if (header != null && header.startsWith(AppConstants.TOKEN_PREFIX)) {
+            try {
+                UsernamePasswordAuthenticationToken authentication =
+                        jwtTokenProvider.authenticate(header.substring(AppConstants.TOKEN_PREFIX.length()));
+                authentication.setDetails(detailsSource.buildDetails(request));
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("Rejected bearer token: {}", e.getMessage());
+                SecurityContextHolder.clearContext();
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
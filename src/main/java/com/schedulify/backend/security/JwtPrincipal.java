@@ -0,0 +1,17 @@
+package com.schedulify.backend.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * Principal of a request authenticated with an access token, built from its claims only.
+ *
+ * @param userId ID of the user ({@code sub} claim)
+ * @param email  Email of the user, also the authentication name
+ */
+public record JwtPrincipal(Long userId, String email) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
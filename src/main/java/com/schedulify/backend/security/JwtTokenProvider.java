@@ -0,0 +1,174 @@
+package com.schedulify.backend.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.schedulify.backend.model.dto.response.JwtAuthResponse;
+import com.schedulify.backend.model.entity.Role;
+import com.schedulify.backend.service.user.UserIdentity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Issues and verifies the HS256-signed JWTs used for stateless authentication.
+ * <p>
+ * Access tokens are short-lived ({@code security.jwt.access-token-validity}) and carry the user ID
+ * ({@code sub}), email and roles, so a request is authenticated and authorized from the token alone.
+ * Refresh tokens ({@code security.jwt.refresh-token-validity}) only carry the user ID and are
+ * exchanged for new tokens after the user is checked again.
+ * <p>
+ * The signer and verifier are built once from the key, and tokens are checked directly against the
+ * Nimbus claims, so verifying a request costs one parse and one HMAC.
+ */
+@Component
+public class JwtTokenProvider {
+
+    static final String CLAIM_TYPE = "typ";
+    static final String CLAIM_EMAIL = "email";
+    static final String CLAIM_ROLES = "roles";
+    static final String TYPE_ACCESS = "access";
+    static final String TYPE_REFRESH = "refresh";
+
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(60);
+
+    private final JWSSigner signer;
+    private final JWSVerifier verifier;
+    private final String issuer;
+    private final Duration accessTokenValidity;
+    private final Duration refreshTokenValidity;
+    // Tokens only ever carry a few role combinations
+    private final Map<List<String>, List<GrantedAuthority>> authorities = new ConcurrentHashMap<>();
+
+    public JwtTokenProvider(SecretKey jwtSigningKey,
+                            @Value("${security.jwt.issuer:schedulify}") String issuer,
+                            @Value("${security.jwt.access-token-validity:900}") long accessTokenValiditySeconds,
+                            @Value("${security.jwt.refresh-token-validity:604800}") long refreshTokenValiditySeconds) {
+        try {
+            this.signer = new MACSigner(jwtSigningKey);
+            this.verifier = new MACVerifier(jwtSigningKey);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Invalid JWT signing key: " + e.getMessage(), e);
+        }
+        this.issuer = issuer;
+        this.accessTokenValidity = Duration.ofSeconds(accessTokenValiditySeconds);
+        this.refreshTokenValidity = Duration.ofSeconds(refreshTokenValiditySeconds);
+    }
+
+    /**
+     * Issue an access token and a refresh token for a user.
+     */
+    public JwtAuthResponse issueTokens(UserIdentity user) {
+        Instant now = Instant.now();
+        JWTClaimsSet access = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .subject(String.valueOf(user.id()))
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(accessTokenValidity)))
+                .claim(CLAIM_TYPE, TYPE_ACCESS)
+                .claim(CLAIM_EMAIL, user.email())
+                .claim(CLAIM_ROLES, user.roles().stream().map(Role.RoleType::name).toList())
+                .build();
+        JWTClaimsSet refresh = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .subject(String.valueOf(user.id()))
+                .jwtID(UUID.randomUUID().toString())
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(refreshTokenValidity)))
+                .claim(CLAIM_TYPE, TYPE_REFRESH)
+                .build();
+
+        JwtAuthResponse response = new JwtAuthResponse();
+        response.setAccessToken(sign(access));
+        response.setRefreshToken(sign(refresh));
+        response.setExpiresIn(accessTokenValidity.toSeconds());
+        return response;
+    }
+
+    /**
+     * Verify an access token and turn its claims into an authentication, without any lookup.
+     *
+     * @throws JwtException if the token is invalid, expired or not an access token
+     */
+    public UsernamePasswordAuthenticationToken authenticate(String token) {
+        JWTClaimsSet claims = verify(token, TYPE_ACCESS);
+        try {
+            List<String> roles = claims.getStringListClaim(CLAIM_ROLES);
+            List<GrantedAuthority> granted = authorities.computeIfAbsent(roles == null ? List.of() : roles,
+                    names -> names.stream().<GrantedAuthority>map(SimpleGrantedAuthority::new).toList());
+            JwtPrincipal principal = new JwtPrincipal(Long.valueOf(claims.getSubject()), claims.getStringClaim(CLAIM_EMAIL));
+            return UsernamePasswordAuthenticationToken.authenticated(principal, null, granted);
+        } catch (ParseException | NumberFormatException e) {
+            throw new BadJwtException("Malformed claims: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Verify a refresh token.
+     *
+     * @return ID of the user it was issued to
+     * @throws JwtException if the token is invalid, expired or not a refresh token
+     */
+    public Long parseRefreshToken(String token) {
+        try {
+            return Long.valueOf(verify(token, TYPE_REFRESH).getSubject());
+        } catch (NumberFormatException e) {
+            throw new BadJwtException("Malformed subject", e);
+        }
+    }
+
+    private JWTClaimsSet verify(String token, String expectedType) {
+        JWTClaimsSet claims;
+        try {
+            SignedJWT jwt = SignedJWT.parse(token);
+            if (!JWSAlgorithm.HS256.equals(jwt.getHeader().getAlgorithm()) || !jwt.verify(verifier)) {
+                throw new BadJwtException("Invalid signature");
+            }
+            claims = jwt.getJWTClaimsSet();
+        } catch (ParseException | JOSEException e) {
+            throw new BadJwtException("Malformed token: " + e.getMessage(), e);
+        }
+
+        Instant now = Instant.now();
+        if (claims.getExpirationTime() == null || claims.getExpirationTime().toInstant().plus(CLOCK_SKEW).isBefore(now)) {
+            throw new BadJwtException("Token expired");
+        }
+        if (claims.getNotBeforeTime() != null && claims.getNotBeforeTime().toInstant().minus(CLOCK_SKEW).isAfter(now)) {
+            throw new BadJwtException("Token not yet valid");
+        }
+        if (!issuer.equals(claims.getIssuer()) || !expectedType.equals(claims.getClaim(CLAIM_TYPE))) {
+            throw new BadJwtException("Not an " + expectedType + " token");
+        }
+        return claims;
+    }
+
+    private String sign(JWTClaimsSet claims) {
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not sign token: " + e.getMessage(), e);
+        }
+        return jwt.serialize();
+    }
+}
@@ -0,0 +1,69 @@
+package com.schedulify.backend.service;
+
+import com.schedulify.backend.model.dto.BaseApiResponse;
+import com.schedulify.backend.model.dto.request.LoginRequest;
+import com.schedulify.backend.model.dto.request.RefreshTokenRequest;
+import com.schedulify.backend.model.dto.response.JwtAuthResponse;
+import com.schedulify.backend.model.entity.User;
+import com.schedulify.backend.security.JwtTokenProvider;
+import com.schedulify.backend.service.user.UserIdentity;
+import com.schedulify.backend.utils.ResponseUtils;
+import com.schedulify.backend.utils.SecurityUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Issues JWTs for email/password logins and exchanges refresh tokens for new ones.
+ * <p>
+ * Refresh tokens are stateless: they stay valid until they expire, and the user is loaded again on
+ * every refresh so that disabled accounts and role changes take effect within one access token lifetime.
+ */
+@Service
+public class AuthService {
+
+    private final UserService userService;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public AuthService(UserService userService, JwtTokenProvider jwtTokenProvider) {
+        this.userService = userService;
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    public ResponseEntity<BaseApiResponse<JwtAuthResponse>> login(LoginRequest request) {
+        if (request.getEmail() == null || request.getPassword() == null) {
+            return ResponseUtils.fail("Email and password are required", HttpStatus.BAD_REQUEST);
+        }
+        Optional<User> user = userService.findByEmail(request.getEmail())
+                .filter(found -> found.getPassword() != null
+                        && SecurityUtils.matchPassword(request.getPassword(), found.getPassword()));
+        return issueTokens(user, "Invalid email or password");
+    }
+
+    public ResponseEntity<BaseApiResponse<JwtAuthResponse>> refresh(RefreshTokenRequest request) {
+        if (request.getRefreshToken() == null) {
+            return ResponseUtils.fail("Refresh token is required", HttpStatus.BAD_REQUEST);
+        }
+        Long userId;
+        try {
+            userId = jwtTokenProvider.parseRefreshToken(request.getRefreshToken());
+        } catch (JwtException | IllegalArgumentException e) {
+            return ResponseUtils.fail("Invalid refresh token", HttpStatus.UNAUTHORIZED);
+        }
+        return issueTokens(userService.findById(userId), "Invalid refresh token");
+    }
+
+    private ResponseEntity<BaseApiResponse<JwtAuthResponse>> issueTokens(Optional<User> user, String failure) {
+        UserIdentity identity = user.map(UserIdentity::from).orElse(null);
+        if (identity == null) {
+            return ResponseUtils.fail(failure, HttpStatus.UNAUTHORIZED);
+        }
+        if (!identity.active() || !identity.accountNonLocked() || !identity.accountNonExpired()) {
+            return ResponseUtils.fail("Account is disabled", HttpStatus.FORBIDDEN);
+        }
+        return ResponseUtils.ok(jwtTokenProvider.issueTokens(identity));
+    }
+}
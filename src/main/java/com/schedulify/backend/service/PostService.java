@@ -3,6 +3,7 @@ package com.schedulify.backend.service;
 import com.schedulify.backend.mapper.MediaAttachmentMapper;
 import com.schedulify.backend.mapper.PlatformPostMapper;
 import com.schedulify.backend.mapper.PostMapper;
+import com.schedulify.backend.model.dto.response.CursorPageDTO;
 import com.schedulify.backend.model.dto.response.MediaAttachmentDTO;
 import com.schedulify.backend.model.dto.response.PlatformPostDTO;
 import com.schedulify.backend.model.dto.response.PostDTO;
@@ -15,35 +16,62 @@ import com.schedulify.backend.repository.MediaAttachmentRepository;
 import com.schedulify.backend.repository.PlatformPostRepository;
 import com.schedulify.backend.repository.PostRepository;
 import com.schedulify.backend.repository.SocialAccountRepository;
+import com.schedulify.backend.service.scheduler.PostScheduleChangedEvent;
+import com.schedulify.backend.service.scheduler.PostPublisher;
 import com.schedulify.backend.service.socialmedia.SocialMediaIntegrationService;
+import com.schedulify.backend.service.user.RequestMemo;
 import com.schedulify.backend.utils.ResponseUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 public class PostService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final String CURSOR_SEPARATOR = ",";
+
     private final PostRepository postRepository;
     private final MediaAttachmentRepository mediaAttachmentRepository;
     private final PlatformPostRepository platformPostRepository;
     private final SocialAccountRepository socialAccountRepository;
     private final SocialMediaIntegrationService socialMediaIntegrationService;
     private final UserService userService;
+    private final PostPublisher postPublisher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final MeterRegistry meterRegistry;
 
     private final PostMapper postMapper;
     private final MediaAttachmentMapper mediaAttachmentMapper;
@@ -58,21 +86,32 @@ public class PostService {
             SocialAccountRepository socialAccountRepository,
             SocialMediaIntegrationService socialMediaIntegrationService,
             UserService userService,
+            PostPublisher postPublisher,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
             PostMapper postMapper,
             MediaAttachmentMapper mediaAttachmentMapper,
-            PlatformPostMapper platformPostMapper) {
+            PlatformPostMapper platformPostMapper,
+            @Value("${file.upload-dir:uploads}") String uploadDir) {
         this.postRepository = postRepository;
         this.mediaAttachmentRepository = mediaAttachmentRepository;
         this.platformPostRepository = platformPostRepository;
         this.socialAccountRepository = socialAccountRepository;
         this.socialMediaIntegrationService = socialMediaIntegrationService;
         this.userService = userService;
+        this.postPublisher = postPublisher;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
         this.postMapper = postMapper;
         this.mediaAttachmentMapper = mediaAttachmentMapper;
         this.platformPostMapper = platformPostMapper;
 
         // Set up file storage location
-        this.fileStorageLocation = Paths.get("uploads")
+        this.fileStorageLocation = Paths.get(uploadDir)
                 .toAbsolutePath().normalize();
 
         try {
@@ -85,20 +124,53 @@ public class PostService {
     public ResponseEntity<BaseApiResponse<Page<PostDTO>>> getPosts(Pageable pageable) {
         try {
             User currentUser = userService.getCurrentUser();
-            Page<Post> posts = postRepository.findByAuthor(currentUser, pageable);
-            Page<PostDTO> postDTOs = posts.map(postMapper::toDTO);
+            Page<PostDTO> postDTOs = readOnlyTransactionTemplate.execute(tx ->
+                    postRepository.findByAuthor(currentUser, pageable).map(this::mapToDTO));
             return ResponseUtils.ok(postDTOs, "Posts retrieved successfully");
         } catch (Exception e) {
             return ResponseUtils.fail(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * Page through the current user's posts, newest first, by keyset instead of offset, so every
+     * page costs the same however deep it is and no total is counted.
+     *
+     * @param cursor {@code nextCursor} of the previous page, or null for the first page
+     * @param size   Page size, clamped to 1..{@value #MAX_CURSOR_PAGE_SIZE}
+     */
+    public ResponseEntity<BaseApiResponse<CursorPageDTO<PostDTO>>> getPostsAfter(String cursor, int size) {
+        ScrollPosition position;
+        try {
+            position = decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseUtils.fail("Invalid cursor", HttpStatus.BAD_REQUEST);
+        }
+        try {
+            User currentUser = userService.getCurrentUser();
+            Limit limit = Limit.of(Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE)));
+            CursorPageDTO<PostDTO> page = readOnlyTransactionTemplate.execute(tx -> {
+                Window<Post> window = postRepository.findByAuthorOrderByCreatedAtDescIdDesc(currentUser, position, limit);
+                List<Post> posts = window.getContent();
+                return CursorPageDTO.<PostDTO>builder()
+                        .content(posts.stream().map(this::mapToDTO).collect(Collectors.toList()))
+                        .hasNext(window.hasNext())
+                        .nextCursor(window.hasNext() ? encodeCursor(posts.get(posts.size() - 1)) : null)
+                        .build();
+            });
+            return ResponseUtils.ok(page, "Posts retrieved successfully");
+        } catch (Exception e) {
+            return ResponseUtils.fail(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     public ResponseEntity<BaseApiResponse<PostDTO>> getPostById(Long id) {
         try {
             User currentUser = userService.getCurrentUser();
-            Post post = postRepository.findByIdAndAuthor(id, currentUser)
-                    .orElseThrow(() -> new IllegalArgumentException("Post not found: " + id));
-            return ResponseUtils.ok(postMapper.toDTO(post), "Post retrieved successfully");
+            PostDTO postDTO = readOnlyTransactionTemplate.execute(tx -> postRepository.findWithDetailsByIdAndAuthor(id, currentUser)
+                    .map(this::mapToDTO)
+                    .orElseThrow(() -> new IllegalArgumentException("Post not found: " + id)));
+            return ResponseUtils.ok(postDTO, "Post retrieved successfully");
         } catch (Exception e) {
             return ResponseUtils.fail(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -113,7 +185,7 @@ public class PostService {
             post.setStatus(PostStatus.DRAFT);
             post.setAuthor(currentUser);
 
-            Post savedPost = postRepository.save(post);
+            Post savedPost = postRepository.saveAndFlush(post);
 
             return ResponseUtils.ok(mapToDTO(savedPost), "Post created successfully");
         } catch (Exception e) {
@@ -121,28 +193,40 @@ public class PostService {
         }
     }
 
-    @Transactional
+    /**
+     * Update a draft. The write runs in its own transaction and a version conflict is mapped once it
+     * has rolled back, so a concurrent change is answered with a conflict rather than a failed commit.
+     */
     public ResponseEntity<BaseApiResponse<PostDTO>> updatePost(Long id, PostDTO postDTO) {
         try {
-            User currentUser = userService.getCurrentUser();
-            Post existingPost = postRepository.findByIdAndAuthor(id, currentUser)
-                    .orElseThrow(() -> new IllegalArgumentException("Post not found: " + id));
-
-            // Only allow updates if post is in DRAFT status
-            if (existingPost.getStatus() != PostStatus.DRAFT) {
-                throw new IllegalStateException("Cannot update a post that is not in DRAFT status");
-            }
-
-            Post post = postMapper.toEntity(postDTO);
-            post.setId(existingPost.getId());
-            post.setAuthor(currentUser);
-            post.setStatus(existingPost.getStatus());
-            post.setCreatedAt(existingPost.getCreatedAt());
-            post.setCreatedBy(existingPost.getCreatedBy());
-
-            Post savedPost = postRepository.save(post);
-
-            return ResponseUtils.ok(mapToDTO(savedPost), "Post updated successfully");
+            PostDTO updated = transactionTemplate.execute(status -> {
+                User currentUser = userService.getCurrentUser();
+                Post existingPost = postRepository.findByIdAndAuthor(id, currentUser)
+                        .orElseThrow(() -> new IllegalArgumentException("Post not found: " + id));
+
+                // Only allow updates if post is in DRAFT status
+                if (existingPost.getStatus() != PostStatus.DRAFT) {
+                    throw new IllegalStateException("Cannot update a post that is not in DRAFT status");
+                }
+                // Reject edits of an older version instead of silently overwriting the newer one
+                if (postDTO.getVersion() != null && !postDTO.getVersion().equals(existingPost.getVersion())) {
+                    throw new ObjectOptimisticLockingFailureException(Post.class, id);
+                }
+
+                Post post = postMapper.toEntity(postDTO);
+                post.setId(existingPost.getId());
+                post.setVersion(existingPost.getVersion());
+                post.setAuthor(currentUser);
+                post.setStatus(existingPost.getStatus());
+                post.setCreatedAt(existingPost.getCreatedAt());
+                post.setCreatedBy(existingPost.getCreatedBy());
+
+                // Flush first, so the returned version is the one that gets committed
+                return mapToDTO(postRepository.saveAndFlush(post));
+            });
+            return ResponseUtils.ok(updated, "Post updated successfully");
+        } catch (OptimisticLockingFailureException e) {
+            return conflict("update", id);
         } catch (Exception e) {
             return ResponseUtils.fail(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -161,6 +245,7 @@ public class PostService {
             }
 
             postRepository.delete(post);
+            eventPublisher.publishEvent(PostScheduleChangedEvent.unscheduled(post.getId()));
             return ResponseUtils.ok(null, "Post deleted successfully");
         } catch (Exception e) {
             return ResponseUtils.fail(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
@@ -185,7 +270,11 @@ public class PostService {
 
         try {
             Path targetLocation = this.fileStorageLocation.resolve(uniqueFilename);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            // Hash while copying so platforms can recognise content they already have
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            }
 
             MediaAttachmentDTO mediaAttachmentDTO = MediaAttachmentDTO.builder()
                     .filename(originalFilename)
@@ -196,12 +285,14 @@ public class PostService {
 
             MediaAttachment mediaAttachment = mediaAttachmentMapper.toEntity(mediaAttachmentDTO);
             mediaAttachment.setPost(post);
+            mediaAttachment.setContentHash(HexFormat.of().formatHex(digest.digest()));
 
             mediaAttachmentRepository.save(mediaAttachment);
             post.getMediaAttachments().add(mediaAttachment);
+            postRepository.flush();
 
             return ResponseUtils.ok(mapToDTO(post), "Media added successfully");
-        } catch (IOException e) {
+        } catch (IOException | NoSuchAlgorithmException e) {
             return ResponseUtils.fail("Failed to store file " + originalFilename, HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
@@ -227,6 +318,7 @@ public class PostService {
 
             post.getMediaAttachments().remove(mediaAttachment);
             mediaAttachmentRepository.delete(mediaAttachment);
+            postRepository.flush();
 
             return ResponseUtils.ok(mapToDTO(post), "Media removed successfully");
         } catch (Exception e) {
@@ -234,75 +326,89 @@ public class PostService {
         }
     }
 
-    @Transactional
+    /**
+     * Schedule a draft. Like {@link #updatePost}, a version conflict is mapped after the transaction
+     * has rolled back.
+     */
     public ResponseEntity<BaseApiResponse<PostDTO>> schedulePost(Long id, String scheduledTimeStr) {
         try {
-            User currentUser = userService.getCurrentUser();
-            Post post = postRepository.findByIdAndAuthor(id, currentUser)
-                    .orElseThrow(() -> new IllegalArgumentException("Post not found: " + id));
-
-            // Only allow scheduling if post is in DRAFT status
-            if (post.getStatus() != PostStatus.DRAFT) {
-                throw new IllegalStateException("Cannot schedule a post that is not in DRAFT status");
-            }
-
-            // Parse scheduled time
-            LocalDateTime scheduledTime = LocalDateTime.parse(scheduledTimeStr, DateTimeFormatter.ISO_DATE_TIME);
-
-            // Validate scheduled time is in the future
-            if (scheduledTime.isBefore(LocalDateTime.now())) {
-                throw new IllegalArgumentException("Scheduled time must be in the future");
-            }
-
-            // Create platform-specific posts
-            createPlatformPosts(post);
-
-            post.setScheduledTime(scheduledTime);
-            post.setStatus(PostStatus.SCHEDULED);
-
-            Post savedPost = postRepository.save(post);
-
-            return ResponseUtils.ok(mapToDTO(savedPost), "Post scheduled successfully");
+            PostDTO scheduled = transactionTemplate.execute(status -> {
+                User currentUser = userService.getCurrentUser();
+                Post post = postRepository.findByIdAndAuthor(id, currentUser)
+                        .orElseThrow(() -> new IllegalArgumentException("Post not found: " + id));
+
+                // Only allow scheduling if post is in DRAFT status
+                if (post.getStatus() != PostStatus.DRAFT) {
+                    throw new IllegalStateException("Cannot schedule a post that is not in DRAFT status");
+                }
+
+                // Parse scheduled time
+                LocalDateTime scheduledTime = LocalDateTime.parse(scheduledTimeStr, DateTimeFormatter.ISO_DATE_TIME);
+
+                // Validate scheduled time is in the future
+                if (scheduledTime.isBefore(LocalDateTime.now())) {
+                    throw new IllegalArgumentException("Scheduled time must be in the future");
+                }
+
+                // Create platform-specific posts
+                createPlatformPosts(post, currentUser);
+
+                post.setScheduledTime(scheduledTime);
+                post.setStatus(PostStatus.SCHEDULED);
+
+                Post savedPost = postRepository.saveAndFlush(post);
+                eventPublisher.publishEvent(PostScheduleChangedEvent.scheduled(savedPost.getId(), scheduledTime));
+                return mapToDTO(savedPost);
+            });
+            return ResponseUtils.ok(scheduled, "Post scheduled successfully");
+        } catch (OptimisticLockingFailureException e) {
+            return conflict("schedule", id);
         } catch (Exception e) {
             return ResponseUtils.fail(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
-    @Transactional
+    /**
+     * Publish a post now. Only the preparation and the result bookkeeping run in (short)
+     * transactions; the remote platform calls are made without holding a database connection.
+     * A post that is already being published, by another request or the scheduler, is a conflict.
+     */
     public ResponseEntity<BaseApiResponse<PostDTO>> publishPost(Long id) {
         try {
-            User currentUser = userService.getCurrentUser();
-            Post post = postRepository.findByIdAndAuthor(id, currentUser)
-                    .orElseThrow(() -> new IllegalArgumentException("Post not found: " + id));
-
-            // Only allow publishing if post is in DRAFT or SCHEDULED status
-            if (post.getStatus() != PostStatus.DRAFT && post.getStatus() != PostStatus.SCHEDULED) {
-                throw new IllegalStateException("Cannot publish a post that is not in DRAFT or SCHEDULED status");
-            }
-
-            // Create platform-specific posts if they don't exist yet
-            if (post.getPlatformPosts().isEmpty()) {
-                createPlatformPosts(post);
-            }
+            transactionTemplate.executeWithoutResult(status -> preparePublishing(id));
 
-            // Publish to all platforms
-            List<MediaAttachment> attachments = post.getMediaAttachments();
-            List<PlatformPost> publishedPlatformPosts = socialMediaIntegrationService.publishToMultiplePlatforms(
-                    post, post.getPlatformPosts(), attachments);
+            postPublisher.publishClaimed(id);
+            eventPublisher.publishEvent(PostScheduleChangedEvent.unscheduled(id));
 
-            // Update status based on results
-            boolean anyFailed = publishedPlatformPosts.stream()
-                    .anyMatch(p -> p.getStatus() == PostStatus.FAILED);
+            PostDTO postDTO = readOnlyTransactionTemplate.execute(tx -> postRepository.findWithDetailsById(id)
+                    .map(this::mapToDTO)
+                    .orElseThrow(() -> new IllegalArgumentException("Post not found: " + id)));
+            return ResponseUtils.ok(postDTO, "Post published successfully");
+        } catch (OptimisticLockingFailureException e) {
+            return conflict("publish", id);
+        } catch (Exception e) {
+            return ResponseUtils.fail(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
 
-            post.setStatus(anyFailed ? PostStatus.FAILED : PostStatus.PUBLISHED);
-            post.setPublishedAt(LocalDateTime.now());
+    private void preparePublishing(Long id) {
+        User currentUser = userService.getCurrentUser();
+        Post post = postRepository.findByIdAndAuthor(id, currentUser)
+                .orElseThrow(() -> new IllegalArgumentException("Post not found: " + id));
 
-            Post savedPost = postRepository.save(post);
+        // Only allow publishing if post is in DRAFT or SCHEDULED status
+        if (post.getStatus() != PostStatus.DRAFT && post.getStatus() != PostStatus.SCHEDULED) {
+            throw new IllegalStateException("Cannot publish a post that is not in DRAFT or SCHEDULED status");
+        }
 
-            return ResponseUtils.ok(mapToDTO(savedPost), "Post published successfully");
-        } catch (Exception e) {
-            return ResponseUtils.fail(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        // Create platform-specific posts if they don't exist yet
+        if (post.getPlatformPosts().isEmpty()) {
+            createPlatformPosts(post, currentUser);
+            postRepository.flush();
         }
+
+        // Only one concurrent publish wins the claim; the others roll back, platform posts included
+        postPublisher.claim(id);
     }
 
     public ResponseEntity<BaseApiResponse<Map<Platform, Map<String, Object>>>> validateContent(PostDTO postDTO) {
@@ -328,40 +434,100 @@ public class PostService {
         return ResponseUtils.ok(socialMediaIntegrationService.formatContent(platform, content, List.of()), "Content formatted successfully");
     }
 
-    private void createPlatformPosts(Post post) {
-        User currentUser = userService.getCurrentUser();
+    /**
+     * Create a platform post for each target platform: one per selected account of that platform,
+     * or for the author's first connected account if none is selected.
+     */
+    private void createPlatformPosts(Post post, User currentUser) {
+        Map<Platform, List<SocialAccount>> accountsByPlatform = findActiveAccounts(currentUser, post.getTargetPlatforms());
+        Set<Long> unresolvedAccountIds = new HashSet<>(post.getTargetAccountIds());
 
+        List<PlatformPost> platformPosts = new ArrayList<>();
         for (Platform platform : post.getTargetPlatforms()) {
-            // Find an active account for this platform
-            List<SocialAccount> accounts = socialAccountRepository.findByPlatformAndActiveTrue(platform);
-
+            List<SocialAccount> accounts = accountsByPlatform.getOrDefault(platform, List.of());
             if (accounts.isEmpty()) {
                 throw new IllegalStateException("No active account found for platform: " + platform);
             }
 
-            // Use the first available account (in a real app, you'd allow the user to choose)
-            SocialAccount account = accounts.stream()
-                    .filter(a -> a.getUser().equals(currentUser))
-                    .findFirst()
-                    .orElse(accounts.get(0));
+            List<SocialAccount> selected = accounts.stream()
+                    .filter(account -> post.getTargetAccountIds().contains(account.getId()))
+                    .toList();
+            if (selected.isEmpty()) {
+                selected = List.of(accounts.get(0));
+            }
 
             // Format content for this platform
             String platformContent = socialMediaIntegrationService.formatContent(
                     platform, post.getContent(), post.getMediaAttachments());
 
-            PlatformPostDTO platformPostDTO = PlatformPostDTO.builder()
-                    .platform(platform)
-                    .platformContent(platformContent)
-                    .status(PostStatus.DRAFT)
-                    .build();
+            for (SocialAccount account : selected) {
+                unresolvedAccountIds.remove(account.getId());
+
+                PlatformPostDTO platformPostDTO = PlatformPostDTO.builder()
+                        .platform(platform)
+                        .platformContent(platformContent)
+                        .status(PostStatus.DRAFT)
+                        .build();
+
+                PlatformPost platformPost = platformPostMapper.toEntity(platformPostDTO);
+                platformPost.setPost(post);
+                platformPost.setSocialAccount(account);
 
-            PlatformPost platformPost = platformPostMapper.toEntity(platformPostDTO);
-            platformPost.setPost(post);
-            platformPost.setSocialAccount(account);
+                platformPosts.add(platformPost);
+            }
+        }
+        if (!unresolvedAccountIds.isEmpty()) {
+            throw new IllegalArgumentException("No active account of a target platform found for ids: " + unresolvedAccountIds);
+        }
+        // One JDBC batch for all platforms
+        post.getPlatformPosts().addAll(platformPostRepository.saveAll(platformPosts));
+    }
 
-            platformPostRepository.save(platformPost);
-            post.getPlatformPosts().add(platformPost);
+    /**
+     * Active accounts of the user on the given platforms, oldest first, loaded with one query and
+     * memoized for the rest of the request.
+     */
+    private Map<Platform, List<SocialAccount>> findActiveAccounts(User user, Set<Platform> platforms) {
+        if (platforms.isEmpty()) {
+            return Map.of();
         }
+        List<Platform> sortedPlatforms = platforms.stream().sorted().toList();
+        return RequestMemo.computeIfAbsent("socialAccounts:" + user.getId() + ":" + sortedPlatforms, () ->
+                socialAccountRepository.findByUserAndActiveTrueAndPlatformInOrderByIdAsc(user, sortedPlatforms).stream()
+                        .collect(Collectors.groupingBy(SocialAccount::getPlatform,
+                                () -> new EnumMap<>(Platform.class), Collectors.toList())));
+    }
+
+    /**
+     * Opaque cursor of the page following a post: its keyset {@code (createdAt, id)}.
+     */
+    private static String encodeCursor(Post post) {
+        String keyset = post.getCreatedAt() + CURSOR_SEPARATOR + post.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(keyset.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ScrollPosition decodeCursor(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String[] keyset = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(CURSOR_SEPARATOR, -1);
+            if (keyset.length != 2) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("createdAt", LocalDateTime.parse(keyset[0]));
+            keys.put("id", Long.parseLong(keyset[1]));
+            return ScrollPosition.forward(keys);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+
+    private <T> ResponseEntity<BaseApiResponse<T>> conflict(String operation, Long id) {
+        meterRegistry.counter("schedulify.posts.conflicts", "operation", operation).increment();
+        return ResponseUtils.fail("Post " + id + " was changed concurrently, reload it and try again", HttpStatus.CONFLICT);
     }
 
     private PostDTO mapToDTO(Post post) {
@@ -0,0 +1,126 @@
+package com.schedulify.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schedulify.backend.model.dto.response.PostSummaryDTO;
+import com.schedulify.backend.model.enums.PostStatus;
+import com.schedulify.backend.model.projection.PostSummaryRow;
+import com.schedulify.backend.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Read-only post list built from projections instead of managed entities.
+ * <p>
+ * Rows are read from a database cursor in a read-only transaction and written to the response as
+ * they arrive, wrapped like a {@code BaseApiResponse}, so neither the posts nor the list are held
+ * in memory.
+ */
+@Slf4j
+@Service
+public class PostSummaryService {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final PostRepository postRepository;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public PostSummaryService(PostRepository postRepository,
+                              UserService userService,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Stream summaries of the current user's posts, newest first.
+     *
+     * @param status Only posts in this status, or all posts if null
+     * @param limit  Maximum number of posts, clamped to 1..{@link #MAX_LIMIT}
+     */
+    public ResponseEntity<StreamingResponseBody> streamPostSummaries(PostStatus status, int limit) {
+        int maxPosts = Math.max(1, Math.min(limit, MAX_LIMIT));
+        // Resolved on the request thread; the body is written on an async thread
+        Long authorId = userService.getCurrentIdentity().id();
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                json.writeStartObject();
+                json.writeBooleanField("success", true);
+                json.writeStringField("message", "Post summaries retrieved successfully");
+                json.writeNumberField("status", HttpStatus.OK.value());
+                json.writeArrayFieldStart("data");
+                readOnlyTransactionTemplate.executeWithoutResult(tx -> {
+                    try (Stream<PostSummaryRow> rows = postRepository.streamSummaries(authorId, status, maxPosts)) {
+                        writeSummaries(rows.iterator(), json);
+                    }
+                });
+                json.writeEndArray();
+                json.writeEndObject();
+            } catch (UncheckedIOException e) {
+                // Usually the client went away; the status has already been sent
+                log.debug("Post summary stream aborted: {}", e.getMessage());
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Fold the consecutive rows of each post into one summary and write it.
+     */
+    private void writeSummaries(Iterator<PostSummaryRow> rows, JsonGenerator json) {
+        PostSummaryDTO current = null;
+        while (rows.hasNext()) {
+            PostSummaryRow row = rows.next();
+            if (current == null || !current.getId().equals(row.id())) {
+                if (current != null) {
+                    write(current, json);
+                }
+                current = PostSummaryDTO.builder()
+                        .id(row.id())
+                        .title(row.title())
+                        .contentPreview(row.contentPreview())
+                        .status(row.status())
+                        .scheduledTime(row.scheduledTime())
+                        .publishedAt(row.publishedAt())
+                        .createdAt(row.createdAt())
+                        .build();
+            }
+            if (row.platform() != null) {
+                current.getPlatformStatusCounts()
+                        .computeIfAbsent(row.platform(), platform -> new EnumMap<>(PostStatus.class))
+                        .merge(row.platformStatus(), 1, Integer::sum);
+            }
+        }
+        if (current != null) {
+            write(current, json);
+        }
+    }
+
+    private void write(PostSummaryDTO summary, JsonGenerator json) {
+        try {
+            objectMapper.writeValue(json, summary);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
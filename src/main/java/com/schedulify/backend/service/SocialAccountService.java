@@ -112,15 +112,14 @@ public class SocialAccountService {
         return ResponseUtils.ok(null,"Account disconnected successfully");
     }
 
-    @Transactional
     public ResponseEntity<BaseApiResponse<SocialAccountDTO>> refreshToken(Long id) {
         SocialAccount account = findAccountById(id);
         
-        // Call the platform-specific token refresh logic
+        // Call the platform-specific token refresh logic; the new token is stored by the integration service,
+        // outside any transaction of ours, so it is written exactly once
         SocialAccount refreshedAccount = socialMediaIntegrationService.refreshToken(account);
         
-        // Save the updated account
-        return ResponseUtils.ok(mapToDTO(socialAccountRepository.save(refreshedAccount)));
+        return ResponseUtils.ok(mapToDTO(refreshedAccount));
     }
 
     public ResponseEntity<BaseApiResponse<List<Map<String, Object>>>> getSupportedPlatforms() {
@@ -2,6 +2,9 @@ package com.schedulify.backend.service;
 
 import com.schedulify.backend.model.entity.User;
 import com.schedulify.backend.repository.UserRepository;
+import com.schedulify.backend.service.user.RequestMemo;
+import com.schedulify.backend.service.user.UserIdentity;
+import com.schedulify.backend.service.user.UserIdentityCache;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -15,26 +18,42 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserIdentityCache userIdentityCache;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, UserIdentityCache userIdentityCache) {
         this.userRepository = userRepository;
+        this.userIdentityCache = userIdentityCache;
     }
 
     /**
      * Get the currently authenticated user.
+     * <p>
+     * Resolved once per request and otherwise served from {@link UserIdentityCache}, so this
+     * normally costs no query. The result is a detached snapshot (see {@link UserIdentity#toUser()}):
+     * use it to scope queries and set associations, and load the user with {@link #findById} to change it.
      *
      * @return The current user
      * @throws IllegalStateException if no user is authenticated
      */
     public User getCurrentUser() {
+        return getCurrentIdentity().toUser();
+    }
+
+    /**
+     * Get the identity and roles of the currently authenticated user.
+     *
+     * @throws IllegalStateException if no user is authenticated
+     */
+    public UserIdentity getCurrentIdentity() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new IllegalStateException("No authenticated user found");
         }
 
         String email = authentication.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("User not found: " + email));
+        return RequestMemo.computeIfAbsent("currentUser:" + email, () -> userIdentityCache
+                .get(email, () -> userRepository.findByEmail(email).map(UserIdentity::from))
+                .orElseThrow(() -> new IllegalStateException("User not found: " + email)));
     }
 
     /**
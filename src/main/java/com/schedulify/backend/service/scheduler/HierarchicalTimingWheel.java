@@ -0,0 +1,177 @@
+package com.schedulify.backend.service.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel keyed by an arbitrary identifier.
+ * <p>
+ * Level 0 has {@code wheelSize} slots of one tick each; every level above covers {@code wheelSize}
+ * times the span of the level below. Entries are placed on the lowest level whose span covers
+ * their deadline and cascade down as the wheel turns, so scheduling, rescheduling and cancelling
+ * are O(1) and advancing costs O(expired entries) per tick.
+ * <p>
+ * The wheel is driven explicitly through {@link #advance(long)}; it does not own a thread.
+ * All methods are thread-safe.
+ *
+ * @param <K> Identifier type; scheduling an existing key replaces its previous deadline
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] levelUnits;
+    private final List<Set<Entry<K>>[]> levels = new ArrayList<>();
+    private final Map<K, Entry<K>> index = new HashMap<>();
+
+    private long currentTick;
+
+    /**
+     * @param tickMillis Resolution of the wheel in milliseconds
+     * @param wheelSize  Number of slots per level
+     * @param levelCount Number of levels; the wheel spans {@code tickMillis * wheelSize^levelCount} ms
+     * @param startMillis Current time in epoch milliseconds
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel dimensions");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levelUnits = new long[levelCount];
+        long unit = 1;
+        for (int level = 0; level < levelCount; level++) {
+            levelUnits[level] = unit;
+            Set<Entry<K>>[] slots = new Set[wheelSize];
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots[slot] = new LinkedHashSet<>();
+            }
+            levels.add(slots);
+            unit = Math.multiplyExact(unit, wheelSize);
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedule (or reschedule) a key to expire at the given time.
+     * Deadlines in the past expire on the next tick.
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        Entry<K> existing = index.remove(key);
+        if (existing != null) {
+            unlink(existing);
+        }
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        Entry<K> entry = new Entry<>(key, Math.max(deadlineTick, currentTick + 1));
+        index.put(key, entry);
+        place(entry);
+    }
+
+    /**
+     * Remove a key from the wheel.
+     *
+     * @return True if the key was scheduled
+     */
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = index.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    public synchronized boolean contains(K key) {
+        return index.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Turn the wheel up to the given time.
+     *
+     * @param nowMillis Current time in epoch milliseconds
+     * @return Keys whose deadline has been reached, in deadline order
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        if (index.isEmpty()) {
+            currentTick = Math.max(currentTick, targetTick);
+            return List.of();
+        }
+
+        List<K> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levelUnits.length - 1; level > 0; level--) {
+                if (currentTick % levelUnits[level] == 0) {
+                    cascade(level);
+                }
+            }
+            Set<Entry<K>> bucket = levels.get(0)[slotOf(0, currentTick)];
+            for (Entry<K> entry : bucket) {
+                index.remove(entry.key);
+                expired.add(entry.key);
+            }
+            bucket.clear();
+        }
+        return expired;
+    }
+
+    private void cascade(int level) {
+        Set<Entry<K>> bucket = levels.get(level)[slotOf(level, currentTick)];
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Entry<K>> entries = new ArrayList<>(bucket);
+        bucket.clear();
+        entries.forEach(this::place);
+    }
+
+    private void place(Entry<K> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        int top = levelUnits.length - 1;
+        for (int level = 0; level <= top; level++) {
+            long span = levelUnits[level] * wheelSize;
+            if (delta < span) {
+                link(entry, level, entry.deadlineTick);
+                return;
+            }
+        }
+        // Beyond the outermost level: park it in the farthest top-level slot, it is re-placed on cascade
+        link(entry, top, currentTick + levelUnits[top] * wheelSize - 1);
+    }
+
+    private void link(Entry<K> entry, int level, long tick) {
+        entry.level = level;
+        entry.slot = slotOf(level, tick);
+        levels.get(level)[entry.slot].add(entry);
+    }
+
+    private void unlink(Entry<K> entry) {
+        levels.get(entry.level)[entry.slot].remove(entry);
+    }
+
+    private int slotOf(int level, long tick) {
+        return (int) ((tick / levelUnits[level]) % wheelSize);
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadlineTick;
+        private int level;
+        private int slot;
+
+        private Entry(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
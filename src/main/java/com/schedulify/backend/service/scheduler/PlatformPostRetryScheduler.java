@@ -0,0 +1,67 @@
+package com.schedulify.backend.service.scheduler;
+
+import com.schedulify.backend.model.enums.PostStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Re-publishes FAILED platform posts whose next attempt is due.
+ * <p>
+ * The next attempt time is set by {@link PublishRetryPolicy} when an attempt fails with a
+ * retryable error. Each platform post is retried on its own, so platforms that already
+ * succeeded are never republished.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "scheduler.retry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PlatformPostRetryScheduler {
+
+    private final PostPublisher postPublisher;
+    private final ThreadPoolTaskExecutor dispatcherExecutor;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    public PlatformPostRetryScheduler(PostPublisher postPublisher,
+                                      @Qualifier("dispatcherExecutor") ThreadPoolTaskExecutor dispatcherExecutor,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${scheduler.retry.batch-size:50}") int batchSize) {
+        this.postPublisher = postPublisher;
+        this.dispatcherExecutor = dispatcherExecutor;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.retry.poll-interval:15000}",
+            initialDelayString = "${scheduler.retry.initial-delay:20000}")
+    public void retryDuePlatformPosts() {
+        List<Long> claimed = postPublisher.claimDueRetries(batchSize);
+        for (Long platformPostId : claimed) {
+            try {
+                dispatcherExecutor.execute(() -> retry(platformPostId));
+            } catch (TaskRejectedException e) {
+                log.warn("Dispatcher pool rejected retry of platform post {}, releasing claim", platformPostId);
+                postPublisher.releaseRetry(platformPostId);
+            }
+        }
+    }
+
+    private void retry(Long platformPostId) {
+        try {
+            PostStatus status = postPublisher.retryClaimed(platformPostId);
+            meterRegistry.counter("schedulify.retry.completed",
+                    "outcome", status == null ? "skipped" : status.name()).increment();
+        } catch (Exception e) {
+            meterRegistry.counter("schedulify.retry.completed", "outcome", "error").increment();
+            log.error("Error retrying platform post {}: {}", platformPostId, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.schedulify.backend.service.scheduler;
+
+import com.schedulify.backend.model.enums.PostStatus;
+import com.schedulify.backend.model.projection.DuePostView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background dispatcher that publishes SCHEDULED posts once their scheduled time has passed.
+ * <p>
+ * Due posts are claimed in small batches (bounded by the free in-flight capacity) and handed to
+ * the dispatcher worker pool. Claiming uses {@code FOR UPDATE SKIP LOCKED} plus a status
+ * transition, so several application instances can run the dispatcher without double-publishing.
+ * <p>
+ * Workers only run the short claim transaction; the remote calls are in flight on the non-blocking
+ * provider SPI afterwards, so {@code max-in-flight} can be far above the worker count. Results are
+ * recorded on a separate pool that never rejects, so a busy dispatcher cannot strand a claimed post.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "scheduler.dispatcher", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PostDispatcher {
+
+    private final PostPublisher postPublisher;
+    private final ThreadPoolTaskExecutor dispatcherExecutor;
+    private final ThreadPoolTaskExecutor publishRecordExecutor;
+
+    private final int batchSize;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+
+    private final Timer lagTimer;
+    private final Counter claimedCounter;
+    private final MeterRegistry meterRegistry;
+
+    public PostDispatcher(PostPublisher postPublisher,
+                          @Qualifier("dispatcherExecutor") ThreadPoolTaskExecutor dispatcherExecutor,
+                          @Qualifier("publishRecordExecutor") ThreadPoolTaskExecutor publishRecordExecutor,
+                          MeterRegistry meterRegistry,
+                          @Value("${scheduler.dispatcher.batch-size:50}") int batchSize,
+                          @Value("${scheduler.dispatcher.max-in-flight:256}") int maxInFlight) {
+        this.postPublisher = postPublisher;
+        this.dispatcherExecutor = dispatcherExecutor;
+        this.publishRecordExecutor = publishRecordExecutor;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+
+        this.lagTimer = Timer.builder("schedulify.dispatcher.lag")
+                .description("Delay between a post's scheduled time and the moment it was claimed")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.claimedCounter = Counter.builder("schedulify.dispatcher.claimed")
+                .description("Posts claimed by the dispatcher")
+                .register(meterRegistry);
+        meterRegistry.gauge("schedulify.dispatcher.in-flight", inFlight);
+        meterRegistry.gauge("schedulify.dispatcher.last-lag.ms", lastLagMillis);
+    }
+
+    /**
+     * Claim and dispatch due posts until no full batch is left or the worker pool is saturated.
+     */
+    @Scheduled(fixedDelayString = "${scheduler.dispatcher.poll-interval:5000}",
+            initialDelayString = "${scheduler.dispatcher.initial-delay:10000}")
+    public void dispatchDuePosts() {
+        int requested;
+        int claimed;
+        do {
+            int capacity = freeCapacity();
+            if (capacity <= 0) {
+                log.debug("Dispatcher saturated with {} posts in flight", inFlight.get());
+                return;
+            }
+            requested = Math.min(batchSize, capacity);
+
+            List<DuePostView> batch = postPublisher.claimDuePosts(requested);
+            claimed = batch.size();
+            dispatch(batch);
+        } while (claimed == requested);
+    }
+
+    /**
+     * Number of posts that can still be claimed without exceeding {@code max-in-flight}.
+     */
+    public int freeCapacity() {
+        return Math.max(0, maxInFlight - inFlight.get());
+    }
+
+    /**
+     * Hand already claimed posts to the worker pool.
+     */
+    public void dispatch(List<DuePostView> claimedPosts) {
+        LocalDateTime now = LocalDateTime.now();
+        for (DuePostView duePost : claimedPosts) {
+            recordLag(duePost.getScheduledTime(), now);
+            submit(duePost.getId());
+        }
+    }
+
+    private void submit(Long postId) {
+        inFlight.incrementAndGet();
+        claimedCounter.increment();
+        try {
+            dispatcherExecutor.execute(() -> publish(postId));
+        } catch (TaskRejectedException e) {
+            inFlight.decrementAndGet();
+            log.warn("Dispatcher pool rejected post {}, releasing claim", postId);
+            postPublisher.releaseClaim(postId);
+        }
+    }
+
+    private void publish(Long postId) {
+        CompletableFuture<PostStatus> publication;
+        try {
+            publication = postPublisher.publishClaimedAsync(postId, publishRecordExecutor);
+        } catch (Exception e) {
+            publication = CompletableFuture.failedFuture(e);
+        }
+        publication.whenComplete((status, error) -> {
+            inFlight.decrementAndGet();
+            if (error != null) {
+                // A post left in PUBLISHING here is requeued by PublishingRecoveryJob
+                meterRegistry.counter("schedulify.dispatcher.completed", "outcome", "error").increment();
+                log.error("Error dispatching post {}: {}", postId, error.getMessage(), error);
+                return;
+            }
+            meterRegistry.counter("schedulify.dispatcher.completed",
+                    "outcome", status == null ? "skipped" : status.name()).increment();
+        });
+    }
+
+    private void recordLag(LocalDateTime scheduledTime, LocalDateTime now) {
+        if (scheduledTime == null) {
+            return;
+        }
+        Duration lag = Duration.between(scheduledTime, now);
+        if (lag.isNegative()) {
+            lag = Duration.ZERO;
+        }
+        lagTimer.record(lag);
+        lastLagMillis.set(lag.toMillis());
+    }
+}
@@ -0,0 +1,381 @@
+package com.schedulify.backend.service.scheduler;
+
+import com.schedulify.backend.model.entity.PlatformPost;
+import com.schedulify.backend.model.entity.Post;
+import com.schedulify.backend.model.enums.PostStatus;
+import com.schedulify.backend.model.projection.DuePostView;
+import com.schedulify.backend.repository.PlatformPostRepository;
+import com.schedulify.backend.repository.PostRepository;
+import com.schedulify.backend.service.socialmedia.SocialMediaIntegrationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Claims due posts and publishes claimed posts to their target platforms.
+ * A post is claimed by moving it from SCHEDULED to PUBLISHING, so only one dispatcher
+ * (on any node) can ever own a given post. Claims that outlive their publisher are recovered by
+ * {@link #recoverStalePublishing(LocalDateTime)}.
+ * <p>
+ * Posts and platform posts are versioned and every status transition increments the version, so
+ * results recorded from a stale read are rejected. Recording is then retried on a fresh read, up
+ * to {@value #MAX_RECORD_ATTEMPTS} times. Conflicts are counted in {@code schedulify.posts.conflicts}.
+ */
+@Slf4j
+@Service
+public class PostPublisher {
+
+    private static final int MAX_RECORD_ATTEMPTS = 3;
+
+    private final PostRepository postRepository;
+    private final PlatformPostRepository platformPostRepository;
+    private final SocialMediaIntegrationService socialMediaIntegrationService;
+    private final PublishRetryPolicy retryPolicy;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public PostPublisher(PostRepository postRepository,
+                         PlatformPostRepository platformPostRepository,
+                         SocialMediaIntegrationService socialMediaIntegrationService,
+                         PublishRetryPolicy retryPolicy,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.platformPostRepository = platformPostRepository;
+        this.socialMediaIntegrationService = socialMediaIntegrationService;
+        this.retryPolicy = retryPolicy;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Atomically claim up to {@code limit} due posts.
+     *
+     * @param limit Maximum number of posts to claim
+     * @return The claimed posts, oldest scheduled time first
+     */
+    @Transactional
+    public List<DuePostView> claimDuePosts(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return claim(postRepository.lockDuePosts(now, limit), now);
+    }
+
+    /**
+     * Atomically claim the given posts, ignoring any that are no longer SCHEDULED or not yet due.
+     *
+     * @param postIds Candidate post IDs
+     * @return The posts that were claimed
+     */
+    @Transactional
+    public List<DuePostView> claimDuePosts(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return claim(postRepository.lockDuePostsByIds(postIds, now), now);
+    }
+
+    private List<DuePostView> claim(List<DuePostView> due, LocalDateTime now) {
+        if (due.isEmpty()) {
+            return due;
+        }
+        List<Long> ids = due.stream().map(DuePostView::getId).toList();
+        postRepository.claimForPublishing(ids, List.of(PostStatus.SCHEDULED), now);
+        return due;
+    }
+
+    /**
+     * Return a claimed post to the SCHEDULED state so it is picked up again.
+     */
+    @Transactional
+    public void releaseClaim(Long postId) {
+        postRepository.transitionStatus(List.of(postId), PostStatus.PUBLISHING, PostStatus.SCHEDULED, LocalDateTime.now());
+    }
+
+    /**
+     * Claim a DRAFT or SCHEDULED post for publishing it immediately with {@link #publishClaimed(Long)}.
+     * Joins the caller's transaction, so whatever the caller prepared is rolled back if the claim fails.
+     *
+     * @param postId ID of the post to publish
+     * @throws ObjectOptimisticLockingFailureException if the post is no longer publishable, e.g. another
+     *                                                 publisher claimed it
+     */
+    @Transactional
+    public void claim(Long postId) {
+        int claimed = postRepository.claimForPublishing(
+                List.of(postId), List.of(PostStatus.DRAFT, PostStatus.SCHEDULED), LocalDateTime.now());
+        if (claimed == 0) {
+            throw new ObjectOptimisticLockingFailureException(Post.class, postId);
+        }
+    }
+
+    /**
+     * Publish a post previously claimed by {@link #claimDuePosts(int)}.
+     * Platform posts that are already published are not sent again.
+     * <p>
+     * No transaction (and no pooled connection) is held during the remote calls: the platform posts
+     * are marked PUBLISHING and loaded in one short transaction, published on the detached
+     * entities, and the outcomes are written back in a second short transaction.
+     *
+     * @param postId ID of the claimed post
+     * @return The resulting post status, or null if the post was no longer claimed
+     */
+    public PostStatus publishClaimed(Long postId) {
+        Post post = transactionTemplate.execute(status -> startPublishing(postId));
+        if (post == null) {
+            return null;
+        }
+
+        List<PlatformPost> attempts = post.getPlatformPosts().stream()
+                .filter(p -> p.getStatus() == PostStatus.PUBLISHING)
+                .toList();
+        socialMediaIntegrationService.publishToMultiplePlatforms(post, attempts, post.getMediaAttachments());
+
+        return record("record-results", () -> recordPublishResults(postId, attempts));
+    }
+
+    /**
+     * Non-blocking variant of {@link #publishClaimed(Long)}.
+     * <p>
+     * The claim transaction runs on the calling thread and the remote calls are made without
+     * holding any thread; the results are recorded on {@code recordExecutor} once every platform
+     * has answered or timed out. If that executor rejects the task (e.g. during shutdown) the results
+     * are recorded on the completing thread instead, so the returned future always completes.
+     *
+     * @param postId         ID of the claimed post
+     * @param recordExecutor Executor for the transaction that records the results
+     * @return Future of the resulting post status, or of null if the post was no longer claimed
+     */
+    public CompletableFuture<PostStatus> publishClaimedAsync(Long postId, Executor recordExecutor) {
+        Post post = transactionTemplate.execute(status -> startPublishing(postId));
+        if (post == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<PlatformPost> attempts = post.getPlatformPosts().stream()
+                .filter(p -> p.getStatus() == PostStatus.PUBLISHING)
+                .toList();
+        CompletableFuture<PostStatus> recorded = new CompletableFuture<>();
+        socialMediaIntegrationService.publishToMultiplePlatformsAsync(post, attempts, post.getMediaAttachments())
+                .whenComplete((published, error) -> {
+                    if (error != null) {
+                        recorded.completeExceptionally(error);
+                        return;
+                    }
+                    Runnable recording = () -> recordResults(postId, attempts, recorded);
+                    try {
+                        recordExecutor.execute(recording);
+                    } catch (RejectedExecutionException e) {
+                        log.warn("Record executor rejected results of post {}, recording inline", postId);
+                        recording.run();
+                    }
+                });
+        return recorded;
+    }
+
+    private void recordResults(Long postId, List<PlatformPost> attempts, CompletableFuture<PostStatus> recorded) {
+        try {
+            recorded.complete(record("record-results", () -> recordPublishResults(postId, attempts)));
+        } catch (Throwable e) {
+            recorded.completeExceptionally(e);
+        }
+    }
+
+    private Post startPublishing(Long postId) {
+        Post post = postRepository.findById(postId).orElse(null);
+        if (post == null || post.getStatus() != PostStatus.PUBLISHING) {
+            log.warn("Skipping post {}: no longer claimed for publishing", postId);
+            return null;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (PlatformPost platformPost : post.getPlatformPosts()) {
+            if (platformPost.getStatus() != PostStatus.PUBLISHED) {
+                platformPost.setStatus(PostStatus.PUBLISHING);
+                platformPost.setClaimedAt(now);
+                Hibernate.initialize(platformPost.getSocialAccount());
+            }
+        }
+        Hibernate.initialize(post.getMediaAttachments());
+        return post;
+    }
+
+    private PostStatus recordPublishResults(Long postId, List<PlatformPost> attempts) {
+        Post post = postRepository.findById(postId).orElse(null);
+        if (post == null) {
+            log.warn("Post {} was deleted while publishing", postId);
+            return null;
+        }
+
+        Map<Long, PlatformPost> attemptsById = attempts.stream()
+                .collect(Collectors.toMap(PlatformPost::getId, Function.identity()));
+        for (PlatformPost platformPost : post.getPlatformPosts()) {
+            PlatformPost attempt = attemptsById.get(platformPost.getId());
+            // A PUBLISHED row is never overwritten, even if recovery reset and republished it meanwhile
+            if (attempt != null && platformPost.getStatus() != PostStatus.PUBLISHED) {
+                recordAttempt(platformPost, attempt);
+            }
+        }
+
+        if (post.getStatus() != PostStatus.PUBLISHING) {
+            log.warn("Post {} is no longer PUBLISHING ({}), keeping its status", postId, post.getStatus());
+            return post.getStatus();
+        }
+        updatePostStatus(post);
+        return post.getStatus();
+    }
+
+    /**
+     * Atomically claim up to {@code limit} failed platform posts whose retry is due.
+     *
+     * @return IDs of the claimed platform posts
+     */
+    @Transactional
+    public List<Long> claimDueRetries(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = platformPostRepository.lockDueRetries(now, limit);
+        if (!ids.isEmpty()) {
+            platformPostRepository.claimForRetry(ids, now);
+        }
+        return ids;
+    }
+
+    /**
+     * Return a claimed retry so it is picked up again on the next poll.
+     */
+    @Transactional
+    public void releaseRetry(Long platformPostId) {
+        platformPostRepository.releaseRetry(platformPostId, LocalDateTime.now());
+    }
+
+    /**
+     * Retry a single platform post claimed by {@link #claimDueRetries(int)}.
+     * Only this platform is republished; platforms that already succeeded are left alone.
+     * Like {@link #publishClaimed(Long)}, the remote call runs outside any transaction.
+     *
+     * @param platformPostId ID of the claimed platform post
+     * @return The resulting platform post status, or null if it was no longer claimed
+     */
+    public PostStatus retryClaimed(Long platformPostId) {
+        PlatformPost attempt = transactionTemplate.execute(status -> startRetry(platformPostId));
+        if (attempt == null) {
+            return null;
+        }
+
+        Post post = attempt.getPost();
+        socialMediaIntegrationService.publishToMultiplePlatforms(post, List.of(attempt), post.getMediaAttachments());
+
+        return record("record-retry", () -> recordRetryResult(attempt));
+    }
+
+    private PlatformPost startRetry(Long platformPostId) {
+        PlatformPost platformPost = platformPostRepository.findById(platformPostId).orElse(null);
+        if (platformPost == null || platformPost.getStatus() != PostStatus.PUBLISHING) {
+            log.warn("Skipping retry of platform post {}: no longer claimed", platformPostId);
+            return null;
+        }
+
+        Hibernate.initialize(platformPost.getSocialAccount());
+        Hibernate.initialize(platformPost.getPost());
+        Hibernate.initialize(platformPost.getPost().getMediaAttachments());
+        return platformPost;
+    }
+
+    private PostStatus recordRetryResult(PlatformPost attempt) {
+        PlatformPost platformPost = platformPostRepository.findById(attempt.getId()).orElse(null);
+        if (platformPost == null || platformPost.getStatus() != PostStatus.PUBLISHING) {
+            log.warn("Platform post {} is no longer being retried, discarding result", attempt.getId());
+            return null;
+        }
+        recordAttempt(platformPost, attempt);
+
+        // While the post itself is PUBLISHING, its publisher owns the overall status
+        Post post = platformPost.getPost();
+        if (post.getStatus() != PostStatus.PUBLISHING) {
+            updatePostStatus(post);
+        }
+        return platformPost.getStatus();
+    }
+
+    /**
+     * Record publish results in a transaction. If a concurrent transition changed the rows in the
+     * meantime, the results are recorded again on a fresh read instead of being lost.
+     */
+    private PostStatus record(String operation, Supplier<PostStatus> recording) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> recording.get());
+            } catch (OptimisticLockingFailureException e) {
+                conflict(operation);
+                if (attempt >= MAX_RECORD_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("Concurrent update while recording publish results ({}), retrying", e.getMessage());
+            }
+        }
+    }
+
+    private void conflict(String operation) {
+        meterRegistry.counter("schedulify.posts.conflicts", "operation", operation).increment();
+    }
+
+    private void recordAttempt(PlatformPost platformPost, PlatformPost attempt) {
+        platformPost.applyOutcome(attempt);
+        platformPost.setClaimedAt(null);
+        retryPolicy.recordAttempt(platformPost);
+    }
+
+    /**
+     * Recover from publishers that died mid-publish.
+     * <p>
+     * Posts PUBLISHING since before the cutoff are put back in the queue with their unfinished
+     * platform posts reset, so they are published again (at-least-once). Stale single-platform
+     * retries are marked FAILED and made due again.
+     *
+     * @param cutoff Claims older than this are considered abandoned
+     * @return Number of posts requeued
+     */
+    @Transactional
+    public int recoverStalePublishing(LocalDateTime cutoff) {
+        LocalDateTime now = LocalDateTime.now();
+        int requeued = 0;
+        List<Long> stale = postRepository.findStalePublishing(cutoff);
+        if (!stale.isEmpty()) {
+            platformPostRepository.resetInFlight(stale, now);
+            requeued = postRepository.requeue(stale, now);
+        }
+        int failedAttempts = platformPostRepository.failStaleAttempts(cutoff, now);
+        if (requeued > 0 || failedAttempts > 0) {
+            log.warn("Recovered {} posts and {} platform posts stuck in PUBLISHING", requeued, failedAttempts);
+        }
+        return requeued;
+    }
+
+    private void updatePostStatus(Post post) {
+        boolean anyFailed = post.getPlatformPosts().isEmpty() || post.getPlatformPosts().stream()
+                .anyMatch(p -> p.getStatus() != PostStatus.PUBLISHED);
+
+        post.setStatus(anyFailed ? PostStatus.FAILED : PostStatus.PUBLISHED);
+        post.setClaimedAt(null);
+        if (post.getPublishedAt() == null || !anyFailed) {
+            post.setPublishedAt(LocalDateTime.now());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.schedulify.backend.service.scheduler;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a post's schedule changes.
+ *
+ * @param postId        ID of the post
+ * @param scheduledTime New scheduled time, or null if the post is no longer scheduled
+ */
+public record PostScheduleChangedEvent(Long postId, LocalDateTime scheduledTime) {
+
+    public static PostScheduleChangedEvent scheduled(Long postId, LocalDateTime scheduledTime) {
+        return new PostScheduleChangedEvent(postId, scheduledTime);
+    }
+
+    public static PostScheduleChangedEvent unscheduled(Long postId) {
+        return new PostScheduleChangedEvent(postId, null);
+    }
+}
@@ -0,0 +1,138 @@
+package com.schedulify.backend.service.scheduler;
+
+import com.schedulify.backend.model.enums.PostStatus;
+import com.schedulify.backend.model.projection.DuePostView;
+import com.schedulify.backend.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires near-term scheduled posts at their exact scheduled time.
+ * <p>
+ * Posts due within the look-ahead window are preloaded into a {@link HierarchicalTimingWheel}
+ * once per preload interval. Schedule changes made through {@code PostService} update the wheel
+ * in place after commit, so the database is scanned once per window instead of once per tick.
+ * When a post expires on the wheel it is claimed and handed to the {@link PostDispatcher}, at
+ * most as many per tick as the dispatcher has free capacity for; the rest stay on the wheel.
+ * The dispatcher's own poll remains as a slower safety sweep.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${scheduler.dispatcher.enabled:true} and ${scheduler.timing-wheel.enabled:true}")
+public class PostTimingWheel {
+
+    private final PostRepository postRepository;
+    private final PostPublisher postPublisher;
+    private final PostDispatcher postDispatcher;
+
+    private final long tickMillis;
+    private final long lookAheadMillis;
+    private final HierarchicalTimingWheel<Long> wheel;
+    private final Counter firedCounter;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-timing-wheel");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PostTimingWheel(PostRepository postRepository,
+                           PostPublisher postPublisher,
+                           PostDispatcher postDispatcher,
+                           MeterRegistry meterRegistry,
+                           @Value("${scheduler.timing-wheel.tick:100}") long tickMillis,
+                           @Value("${scheduler.timing-wheel.wheel-size:64}") int wheelSize,
+                           @Value("${scheduler.timing-wheel.levels:3}") int levels,
+                           @Value("${scheduler.timing-wheel.look-ahead:600000}") long lookAheadMillis) {
+        this.postRepository = postRepository;
+        this.postPublisher = postPublisher;
+        this.postDispatcher = postDispatcher;
+        this.tickMillis = tickMillis;
+        this.lookAheadMillis = lookAheadMillis;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, levels, System.currentTimeMillis());
+        this.firedCounter = meterRegistry.counter("schedulify.timing-wheel.fired");
+        meterRegistry.gauge("schedulify.timing-wheel.size", wheel, HierarchicalTimingWheel::size);
+    }
+
+    @PostConstruct
+    void start() {
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * Load every SCHEDULED post due within the look-ahead window into the wheel.
+     */
+    @Scheduled(fixedDelayString = "${scheduler.timing-wheel.preload-interval:300000}")
+    public void preload() {
+        LocalDateTime horizon = LocalDateTime.now().plus(Duration.ofMillis(lookAheadMillis));
+        List<DuePostView> upcoming = postRepository.findByStatusAndScheduledTimeLessThanEqual(
+                PostStatus.SCHEDULED, horizon, DuePostView.class);
+        upcoming.forEach(post -> wheel.schedule(post.getId(), toEpochMillis(post.getScheduledTime())));
+        log.debug("Preloaded {} posts due before {}", upcoming.size(), horizon);
+    }
+
+    /**
+     * Keep the wheel in sync with schedule changes once they are committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(PostScheduleChangedEvent event) {
+        LocalDateTime scheduledTime = event.scheduledTime();
+        if (scheduledTime != null
+                && toEpochMillis(scheduledTime) <= System.currentTimeMillis() + lookAheadMillis) {
+            wheel.schedule(event.postId(), toEpochMillis(scheduledTime));
+        } else {
+            // Not scheduled anymore, or outside the window: the next preload picks it up if needed
+            wheel.cancel(event.postId());
+        }
+    }
+
+    private void tick() {
+        try {
+            long now = System.currentTimeMillis();
+            List<Long> expired = wheel.advance(now);
+            if (expired.isEmpty()) {
+                return;
+            }
+            int capacity = Math.min(postDispatcher.freeCapacity(), expired.size());
+            List<Long> deferred = expired.subList(capacity, expired.size());
+            if (!deferred.isEmpty()) {
+                // Past deadlines fire on the next tick, so the overflow waits on the wheel for capacity
+                deferred.forEach(postId -> wheel.schedule(postId, now));
+                log.debug("Dispatcher saturated, deferring {} expired posts", deferred.size());
+            }
+            if (capacity == 0) {
+                return;
+            }
+            firedCounter.increment(capacity);
+            postDispatcher.dispatch(postPublisher.claimDuePosts(expired.subList(0, capacity)));
+        } catch (Exception e) {
+            // Unclaimed posts stay SCHEDULED and are picked up by the dispatcher sweep
+            log.error("Error firing timing wheel: {}", e.getMessage(), e);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
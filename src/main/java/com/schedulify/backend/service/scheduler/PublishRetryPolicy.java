@@ -0,0 +1,87 @@
+package com.schedulify.backend.service.scheduler;
+
+import com.schedulify.backend.exception.CircuitOpenException;
+import com.schedulify.backend.model.entity.PlatformPost;
+import com.schedulify.backend.model.enums.PostStatus;
+import com.schedulify.backend.service.socialmedia.PlatformCircuitBreakers;
+import com.schedulify.backend.service.socialmedia.PublishErrorClassifier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether and when a failed platform post is retried.
+ * <p>
+ * Retryable failures are rescheduled with exponential backoff and "equal jitter": the delay for
+ * attempt {@code n} is half of {@code min(maxDelay, baseDelay * 2^(n-1))} plus a random share of
+ * the other half, which spreads retries of a failed batch instead of firing them together.
+ */
+@Component
+public class PublishRetryPolicy {
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final PlatformCircuitBreakers circuitBreakers;
+    private final Clock clock;
+
+    @Autowired
+    public PublishRetryPolicy(PlatformCircuitBreakers circuitBreakers,
+                              @Value("${scheduler.retry.max-attempts:5}") int maxAttempts,
+                              @Value("${scheduler.retry.base-delay:30000}") long baseDelayMillis,
+                              @Value("${scheduler.retry.max-delay:3600000}") long maxDelayMillis) {
+        this(circuitBreakers, maxAttempts, baseDelayMillis, maxDelayMillis, Clock.systemDefaultZone());
+    }
+
+    PublishRetryPolicy(PlatformCircuitBreakers circuitBreakers, int maxAttempts, long baseDelayMillis,
+                       long maxDelayMillis, Clock clock) {
+        this.circuitBreakers = circuitBreakers;
+        this.clock = clock;
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = Duration.ofMillis(baseDelayMillis);
+        this.maxDelay = Duration.ofMillis(maxDelayMillis);
+    }
+
+    /**
+     * Record a completed publish attempt and schedule the next one if the failure is transient.
+     *
+     * @param platformPost Platform post whose attempt just finished
+     */
+    public void recordAttempt(PlatformPost platformPost) {
+        // A short-circuited call never reached the platform, so it does not use up an attempt
+        boolean shortCircuited = platformPost.getStatus() == PostStatus.FAILED
+                && CircuitOpenException.class.getName().equals(platformPost.getLastErrorClass());
+        if (!shortCircuited) {
+            platformPost.setAttemptCount(platformPost.getAttemptCount() + 1);
+        }
+        platformPost.setNextAttemptAt(null);
+
+        if (platformPost.getStatus() != PostStatus.FAILED) {
+            return;
+        }
+        if (PublishErrorClassifier.isRetryable(platformPost.getLastErrorClass())
+                && platformPost.getAttemptCount() < maxAttempts) {
+            Duration delay = backoff(Math.max(1, platformPost.getAttemptCount()));
+            if (shortCircuited) {
+                // Do not come back before the circuit lets probes through
+                Duration remainingOpen = circuitBreakers.remainingOpen(platformPost.getPlatform());
+                delay = remainingOpen.compareTo(delay) > 0 ? remainingOpen.plus(backoff(1)) : delay;
+            }
+            platformPost.setNextAttemptAt(LocalDateTime.now(clock).plus(delay));
+        }
+    }
+
+    /**
+     * Backoff before the attempt following attempt number {@code attempt} (1-based).
+     */
+    Duration backoff(int attempt) {
+        long cap = Math.min(baseDelay.toMillis() << Math.min(attempt - 1, 30), maxDelay.toMillis());
+        long half = cap / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+}
@@ -0,0 +1,46 @@
+package com.schedulify.backend.service.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Periodically recovers posts left in PUBLISHING by a publisher that crashed or was restarted.
+ * <p>
+ * The stale threshold must be well above the longest possible publish (per-platform timeouts plus
+ * rate limiter waits), otherwise a slow but live publish is requeued and sent twice.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "scheduler.recovery", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PublishingRecoveryJob {
+
+    private final PostPublisher postPublisher;
+    private final Duration staleAfter;
+    private final Counter requeued;
+
+    public PublishingRecoveryJob(PostPublisher postPublisher,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${scheduler.recovery.stale-after:600000}") long staleAfterMillis) {
+        this.postPublisher = postPublisher;
+        this.staleAfter = Duration.ofMillis(staleAfterMillis);
+        this.requeued = meterRegistry.counter("schedulify.recovery.requeued");
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.recovery.poll-interval:60000}",
+            initialDelayString = "${scheduler.recovery.initial-delay:30000}")
+    public void recoverStalePublishing() {
+        try {
+            requeued.increment(postPublisher.recoverStalePublishing(LocalDateTime.now().minus(staleAfter)));
+        } catch (Exception e) {
+            log.error("Error recovering stale publishing claims: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.schedulify.backend.service.scheduler;
+
+import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.repository.SocialAccountRepository;
+import com.schedulify.backend.service.socialmedia.SocialMediaIntegrationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Refreshes social account tokens in the background before they expire, so publishes do not
+ * fail on an expired token.
+ * <p>
+ * Each poll claims up to {@code batch-size} active accounts whose token expires within
+ * {@code horizon}, soonest first, and spreads their refreshes over {@code spread} instead of firing
+ * them together; the per-account rate limiter applies on top. A claim lasts {@code claim-duration},
+ * so accounts of a crashed instance are picked up again. Failed refreshes back off exponentially,
+ * and accounts that failed {@code failure-threshold} times in a row are logged and counted in the
+ * {@code schedulify.token-refresh.failing} gauge.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "social.token-refresh", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TokenRefreshScheduler {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final SocialAccountRepository socialAccountRepository;
+    private final SocialMediaIntegrationService socialMediaIntegrationService;
+    private final ThreadPoolTaskExecutor publishExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration horizon;
+    private final int batchSize;
+    private final Duration spread;
+    private final Duration claimDuration;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final int failureThreshold;
+    private final AtomicLong failingAccounts = new AtomicLong();
+
+    public TokenRefreshScheduler(SocialAccountRepository socialAccountRepository,
+                                 SocialMediaIntegrationService socialMediaIntegrationService,
+                                 @Qualifier("publishExecutor") ThreadPoolTaskExecutor publishExecutor,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${social.token-refresh.horizon:259200000}") long horizonMillis,
+                                 @Value("${social.token-refresh.batch-size:50}") int batchSize,
+                                 @Value("${social.token-refresh.spread:240000}") long spreadMillis,
+                                 @Value("${social.token-refresh.claim-duration:900000}") long claimDurationMillis,
+                                 @Value("${social.token-refresh.retry-delay:300000}") long retryDelayMillis,
+                                 @Value("${social.token-refresh.max-retry-delay:21600000}") long maxRetryDelayMillis,
+                                 @Value("${social.token-refresh.failure-threshold:3}") int failureThreshold) {
+        this.socialAccountRepository = socialAccountRepository;
+        this.socialMediaIntegrationService = socialMediaIntegrationService;
+        this.publishExecutor = publishExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.horizon = Duration.ofMillis(horizonMillis);
+        this.batchSize = batchSize;
+        this.spread = Duration.ofMillis(spreadMillis);
+        this.claimDuration = Duration.ofMillis(claimDurationMillis);
+        this.retryDelay = Duration.ofMillis(retryDelayMillis);
+        this.maxRetryDelay = Duration.ofMillis(maxRetryDelayMillis);
+        this.failureThreshold = failureThreshold;
+        meterRegistry.gauge("schedulify.token-refresh.failing", failingAccounts);
+    }
+
+    @Scheduled(fixedDelayString = "${social.token-refresh.poll-interval:300000}",
+            initialDelayString = "${social.token-refresh.initial-delay:60000}")
+    public void refreshExpiringTokens() {
+        try {
+            List<Long> claimed = transactionTemplate.execute(status -> claimDueAccounts());
+            if (claimed != null && !claimed.isEmpty()) {
+                log.info("Refreshing {} expiring tokens over {} s", claimed.size(), spread.toSeconds());
+                long step = spread.toMillis() / claimed.size();
+                for (int i = 0; i < claimed.size(); i++) {
+                    Long accountId = claimed.get(i);
+                    // Runs on the publish pool; a rejected refresh is picked up again once its claim lapses
+                    CompletableFuture.runAsync(() -> refresh(accountId),
+                            CompletableFuture.delayedExecutor(i * step, TimeUnit.MILLISECONDS, publishExecutor));
+                }
+            }
+            failingAccounts.set(socialAccountRepository.countFailingTokenRefreshes(failureThreshold));
+        } catch (Exception e) {
+            log.error("Error scheduling token refreshes: {}", e.getMessage(), e);
+        }
+    }
+
+    private List<Long> claimDueAccounts() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = socialAccountRepository.lockDueTokenRefreshes(now.plus(horizon), now, batchSize);
+        if (!ids.isEmpty()) {
+            socialAccountRepository.claimForTokenRefresh(ids, now.plus(claimDuration));
+        }
+        return ids;
+    }
+
+    /**
+     * Refresh one claimed account. The remote call runs outside any transaction.
+     */
+    void refresh(Long accountId) {
+        SocialAccount account = transactionTemplate.execute(status ->
+                socialAccountRepository.findById(accountId).filter(SocialAccount::isActive).orElse(null));
+        if (account == null) {
+            return;
+        }
+
+        // Async, so no pool thread is held while the refresh (and the token write it hands to this pool) completes
+        socialMediaIntegrationService.refreshTokenAsync(account).whenCompleteAsync((refreshed, error) -> {
+            String outcome = error == null ? "success" : "failure";
+            try {
+                if (error == null) {
+                    transactionTemplate.executeWithoutResult(status -> recordSuccess(accountId, refreshed));
+                } else {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    transactionTemplate.executeWithoutResult(status -> recordFailure(accountId, cause));
+                }
+            } catch (Exception e) {
+                log.error("Error recording token refresh of account {}: {}", accountId, e.getMessage(), e);
+            }
+            meterRegistry.counter("schedulify.token-refresh.completed",
+                    "platform", account.getPlatform().name(), "outcome", outcome).increment();
+        }, publishExecutor);
+    }
+
+    private void recordSuccess(Long accountId, SocialAccount refreshed) {
+        // The token itself and the reset failure state were stored by the integration service
+        socialAccountRepository.findById(accountId).ifPresent(account -> {
+            // A token that could not be extended past the horizon is retried later, not on every poll
+            LocalDateTime now = LocalDateTime.now();
+            boolean stillExpiring = refreshed.getTokenExpiryDate() != null
+                    && !refreshed.getTokenExpiryDate().isAfter(now.plus(horizon));
+            if (stillExpiring) {
+                account.setNextRefreshAt(now.plus(retryDelay));
+            }
+        });
+    }
+
+    private void recordFailure(Long accountId, Throwable error) {
+        socialAccountRepository.findById(accountId).ifPresent(account -> {
+            int failures = account.getTokenRefreshFailures() + 1;
+            String message = String.valueOf(error.getMessage());
+            account.setTokenRefreshFailures(failures);
+            account.setLastRefreshError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+            account.setNextRefreshAt(LocalDateTime.now().plus(backoff(failures)));
+
+            if (failures >= failureThreshold) {
+                log.warn("Token refresh of {} account {} failed {} times in a row, token expires at {}: {}",
+                        account.getPlatform(), accountId, failures, account.getTokenExpiryDate(), message);
+            } else {
+                log.info("Token refresh of {} account {} failed: {}", account.getPlatform(), accountId, message);
+            }
+        });
+    }
+
+    private Duration backoff(int failures) {
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(failures - 1, 20));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+}
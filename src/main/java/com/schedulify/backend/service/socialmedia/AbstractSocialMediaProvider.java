@@ -14,39 +14,114 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BooleanSupplier;
 
 /**
  * Abstract implementation of the SocialMediaProvider interface.
  * Handles common functionality across different social media platforms.
+ * <p>
+ * Remote calls are implemented once, non-blocking, through {@link AsyncSocialMediaProvider};
+ * the synchronous methods wait for the async ones.
  */
-public abstract class AbstractSocialMediaProvider implements SocialMediaProvider {
+public abstract class AbstractSocialMediaProvider implements SocialMediaProvider, AsyncSocialMediaProvider {
     
     protected final Logger logger = LoggerFactory.getLogger(getClass());
     protected final RestTemplate restTemplate;
+    protected final AsyncHttpFormClient httpClient;
     
-    protected AbstractSocialMediaProvider(RestTemplate restTemplate) {
+    protected AbstractSocialMediaProvider(RestTemplate restTemplate, AsyncHttpFormClient httpClient) {
         this.restTemplate = restTemplate;
+        this.httpClient = httpClient;
     }
     
     @Override
     public PlatformPost publishPost(PlatformPost platformPost, List<MediaAttachment> attachments) {
+        return await(publishPostAsync(platformPost, attachments));
+    }
+
+    @Override
+    public CompletableFuture<PlatformPost> publishPostAsync(PlatformPost platformPost, List<MediaAttachment> attachments) {
+        return publishPostAsync(platformPost, attachments, () -> true);
+    }
+
+    @Override
+    public CompletableFuture<PlatformPost> publishPostAsync(PlatformPost platformPost, List<MediaAttachment> attachments,
+                                                            BooleanSupplier beforeSend) {
+        CompletableFuture<PlatformPost> call;
         try {
-            PlatformPost result = doPublishPost(platformPost, attachments);
-            result.setStatus(PostStatus.PUBLISHED);
-            result.setPublishedAt(LocalDateTime.now());
-            return result;
+            call = doPublishPostAsync(platformPost, attachments, beforeSend);
         } catch (Exception e) {
-            logger.error("Error publishing post to {}: {}", getPlatformType(), e.getMessage(), e);
+            call = CompletableFuture.failedFuture(e);
+        }
+        // Cancelling the returned future (e.g. on a deadline) aborts the platform call
+        return Futures.propagateCancel(call.handle((result, error) -> {
+            if (error == null) {
+                result.setStatus(PostStatus.PUBLISHED);
+                result.setPublishedAt(LocalDateTime.now());
+                return result;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof CancellationException cancelled) {
+                // Not sent, or abandoned by the caller: not an outcome to report on the post
+                throw cancelled;
+            }
+            logger.error("Error publishing post to {}: {}", getPlatformType(), cause.getMessage(), cause);
             platformPost.setStatus(PostStatus.FAILED);
-            platformPost.setErrorMessage(e.getMessage());
+            platformPost.setErrorMessage(cause.getMessage());
+            platformPost.setLastErrorClass(PublishErrorClassifier.errorClassOf(cause));
             return platformPost;
-        }
+        }), call);
     }
     
     /**
-     * Platform-specific implementation of post publishing.
+     * Platform-specific, non-blocking implementation of post publishing.
+     * The returned future fails if the post could not be published.
+     */
+    protected abstract CompletableFuture<PlatformPost> doPublishPostAsync(PlatformPost platformPost, List<MediaAttachment> attachments);
+
+    /**
+     * Like {@link #doPublishPostAsync(PlatformPost, List)}, asking {@code beforeSend} right before the post
+     * leaves and failing with a {@link CancellationException} if it answers false. Providers that do not
+     * send the post straight away override this to ask when they do.
      */
-    protected abstract PlatformPost doPublishPost(PlatformPost platformPost, List<MediaAttachment> attachments);
+    protected CompletableFuture<PlatformPost> doPublishPostAsync(PlatformPost platformPost, List<MediaAttachment> attachments,
+                                                                 BooleanSupplier beforeSend) {
+        return beforeSend.getAsBoolean()
+            ? doPublishPostAsync(platformPost, attachments)
+            : CompletableFuture.failedFuture(new CancellationException("Publishing abandoned before sending"));
+    }
+
+    @Override
+    public SocialAccount refreshToken(SocialAccount socialAccount) {
+        return await(refreshTokenAsync(socialAccount));
+    }
+
+    @Override
+    public boolean deletePost(PlatformPost platformPost) {
+        return await(deletePostAsync(platformPost));
+    }
+
+    /**
+     * Wait for an async call, rethrowing its failure as it would have been thrown by a blocking call.
+     */
+    protected <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + getPlatformType(), e);
+        }
+    }
     
     @Override
     public String formatContent(String content, List<MediaAttachment> mediaAttachments) {
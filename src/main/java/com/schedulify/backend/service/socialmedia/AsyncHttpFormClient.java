@@ -0,0 +1,203 @@
+package com.schedulify.backend.service.socialmedia;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking HTTP client for platform APIs, on top of the shared async connection pool.
+ * <p>
+ * Futures complete on the HTTP client's I/O threads, so callers must not block or do database work
+ * in their callbacks. Response bodies are decoded by a caller-supplied {@link BodyReader}, so each
+ * call can stream out just the fields it needs. Error responses are turned into exceptions by an
+ * {@link ErrorTranslator}; by default the same types RestTemplate throws
+ * ({@link HttpClientErrorException}, {@link HttpServerErrorException}), and I/O failures become
+ * {@link ResourceAccessException}, so error classification does not depend on which client made
+ * the call. Cancelling a returned future cancels the underlying exchange.
+ */
+public class AsyncHttpFormClient {
+
+    /**
+     * Decodes a successful response body.
+     */
+    @FunctionalInterface
+    public interface BodyReader<T> {
+        T read(byte[] body) throws IOException;
+    }
+
+    /**
+     * Turns an error response into the exception the returned future fails with.
+     */
+    @FunctionalInterface
+    public interface ErrorTranslator {
+        RuntimeException translate(int status, byte[] body);
+    }
+
+    private final CloseableHttpAsyncClient httpClient;
+    private final RequestConfig requestConfig;
+    private final ErrorTranslator errorTranslator;
+
+    public AsyncHttpFormClient(CloseableHttpAsyncClient httpClient, Duration responseTimeout) {
+        this(httpClient, responseTimeout, AsyncHttpFormClient::httpError);
+    }
+
+    public AsyncHttpFormClient(CloseableHttpAsyncClient httpClient, Duration responseTimeout,
+                               ErrorTranslator errorTranslator) {
+        this.httpClient = httpClient;
+        this.errorTranslator = errorTranslator;
+        this.requestConfig = RequestConfig.custom()
+                .setResponseTimeout(Timeout.of(responseTimeout))
+                .build();
+    }
+
+    /**
+     * POST form parameters and decode the response.
+     */
+    public <T> CompletableFuture<T> post(String url, MultiValueMap<String, String> form, BodyReader<T> reader) {
+        return execute(SimpleRequestBuilder.post(url)
+                .setBody(formEncode(form), ContentType.APPLICATION_FORM_URLENCODED)
+                .build(), reader);
+    }
+
+    /**
+     * POST form fields plus a byte range of a file as {@code multipart/form-data}, streaming the
+     * range from the channel instead of loading it into memory. The channel is not closed.
+     *
+     * @param fileField Name of the file part
+     * @param filename  File name reported in the file part
+     * @param offset    First byte of the range
+     * @param length    Number of bytes to send
+     */
+    public <T> CompletableFuture<T> postFileChunk(String url, MultiValueMap<String, String> fields,
+                                                  String fileField, String filename,
+                                                  FileChannel file, long offset, long length,
+                                                  BodyReader<T> reader) {
+        return execute(SimpleRequestBuilder.post(url).build(),
+                new FileChunkEntityProducer(fields, fileField, filename, file, offset, length), reader);
+    }
+
+    /**
+     * GET a URL and decode the response.
+     */
+    public <T> CompletableFuture<T> get(String url, BodyReader<T> reader) {
+        return execute(SimpleRequestBuilder.get(url).build(), reader);
+    }
+
+    /**
+     * DELETE a URL and decode the response.
+     */
+    public <T> CompletableFuture<T> delete(String url, BodyReader<T> reader) {
+        return execute(SimpleRequestBuilder.delete(url).build(), reader);
+    }
+
+    /**
+     * Build the exception RestTemplate would have thrown for an error response.
+     *
+     * @param code HTTP status code (4xx or 5xx)
+     * @param body Response body, may be null
+     */
+    public static RestClientResponseException httpError(int code, byte[] body) {
+        HttpStatusCode status = HttpStatusCode.valueOf(code);
+        String statusText = status instanceof HttpStatus httpStatus ? httpStatus.getReasonPhrase() : String.valueOf(code);
+        byte[] bytes = body == null ? new byte[0] : body;
+        return status.is5xxServerError()
+                ? HttpServerErrorException.create(status, statusText, HttpHeaders.EMPTY, bytes, StandardCharsets.UTF_8)
+                : HttpClientErrorException.create(status, statusText, HttpHeaders.EMPTY, bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * URL-encode form parameters as an {@code application/x-www-form-urlencoded} body.
+     */
+    public static String formEncode(MultiValueMap<String, String> params) {
+        return params.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream()
+                        .map(value -> URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "="
+                                + URLEncoder.encode(value, StandardCharsets.UTF_8)))
+                .collect(Collectors.joining("&"));
+    }
+
+    private <T> CompletableFuture<T> execute(SimpleHttpRequest request, BodyReader<T> reader) {
+        return execute(request, null, reader);
+    }
+
+    private <T> CompletableFuture<T> execute(SimpleHttpRequest request, AsyncEntityProducer entity,
+                                             BodyReader<T> reader) {
+        request.setConfig(requestConfig);
+        // Never put the query string in messages: it carries access tokens
+        String target = request.getMethod() + " " + pathOf(request);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AsyncRequestProducer producer = entity == null
+                ? SimpleRequestProducer.create(request)
+                : new BasicRequestProducer(request, entity);
+        Future<SimpleHttpResponse> exchange = httpClient.execute(producer, SimpleResponseConsumer.create(), new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                byte[] body = response.getBodyBytes();
+                if (response.getCode() >= 400) {
+                    result.completeExceptionally(errorTranslator.translate(response.getCode(), body));
+                    return;
+                }
+                try {
+                    result.complete(reader.read(body == null ? new byte[0] : body));
+                } catch (IOException | RuntimeException e) {
+                    result.completeExceptionally(new IllegalStateException("Invalid response from " + target, e));
+                }
+            }
+
+            @Override
+            public void failed(Exception e) {
+                IOException cause = e instanceof IOException io ? io : new IOException(e);
+                result.completeExceptionally(new ResourceAccessException(
+                        "I/O error on " + target + ": " + e.getMessage(), cause));
+            }
+
+            @Override
+            public void cancelled() {
+                result.cancel(false);
+            }
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private static String pathOf(SimpleHttpRequest request) {
+        try {
+            URI uri = request.getUri();
+            return uri.getScheme() + "://" + uri.getAuthority() + uri.getPath();
+        } catch (Exception e) {
+            return request.getPath();
+        }
+    }
+}
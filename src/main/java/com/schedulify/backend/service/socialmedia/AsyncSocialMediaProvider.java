@@ -0,0 +1,80 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.model.entity.MediaAttachment;
+import com.schedulify.backend.model.entity.PlatformPost;
+import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.model.enums.Platform;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Non-blocking variant of the remote calls of {@link SocialMediaProvider}.
+ * <p>
+ * The contracts match the synchronous methods: publishing failures are reported on the returned
+ * platform post (status FAILED) rather than as a failed future. Futures may complete on HTTP I/O
+ * threads, so callbacks must not block.
+ */
+public interface AsyncSocialMediaProvider {
+
+    /**
+     * Get the type of platform this provider handles.
+     * @return The platform type.
+     */
+    Platform getPlatformType();
+
+    /**
+     * Refresh the access token for a social account.
+     * @param socialAccount Account to refresh
+     * @return Future of the updated account
+     */
+    CompletableFuture<SocialAccount> refreshTokenAsync(SocialAccount socialAccount);
+
+    /**
+     * Publish a post to the platform.
+     * @param platformPost The post to publish
+     * @param attachments Media attachments to include
+     * @return Future of the updated platform post, PUBLISHED or FAILED
+     */
+    CompletableFuture<PlatformPost> publishPostAsync(PlatformPost platformPost, List<MediaAttachment> attachments);
+
+    /**
+     * Publish a post, asking {@code beforeSend} right before it leaves for the platform. If it answers
+     * false the post is not sent and the returned future fails with a {@link CancellationException}.
+     * Providers that send later than they are called (e.g. in a batch) ask at that point instead.
+     * @param platformPost The post to publish
+     * @param attachments Media attachments to include
+     * @param beforeSend Whether the post may still be sent
+     * @return Future of the updated platform post, PUBLISHED or FAILED
+     */
+    default CompletableFuture<PlatformPost> publishPostAsync(PlatformPost platformPost, List<MediaAttachment> attachments,
+                                                             BooleanSupplier beforeSend) {
+        return beforeSend.getAsBoolean()
+            ? publishPostAsync(platformPost, attachments)
+            : CompletableFuture.failedFuture(new CancellationException("Publishing abandoned before sending"));
+    }
+
+    /**
+     * Delete a post from the platform.
+     * @param platformPost The post to delete
+     * @return Future of true if deletion succeeded
+     */
+    CompletableFuture<Boolean> deletePostAsync(PlatformPost platformPost);
+
+    /**
+     * Get the async view of a provider: the provider itself if it is natively non-blocking,
+     * otherwise an adapter that runs its blocking calls on the given executor.
+     *
+     * @param provider Provider to adapt
+     * @param blockingExecutor Executor for blocking calls of sync-only providers
+     */
+    static AsyncSocialMediaProvider of(SocialMediaProvider provider, Executor blockingExecutor) {
+        if (provider instanceof AsyncSocialMediaProvider asyncProvider) {
+            return asyncProvider;
+        }
+        return new BlockingProviderAdapter(provider, blockingExecutor);
+    }
+}
@@ -0,0 +1,49 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.model.entity.MediaAttachment;
+import com.schedulify.backend.model.entity.PlatformPost;
+import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.model.enums.Platform;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Exposes a synchronous {@link SocialMediaProvider} through {@link AsyncSocialMediaProvider} by
+ * running each blocking call on an executor.
+ * <p>
+ * Cancelling a returned future before its task starts prevents the call. A call that is already
+ * running cannot be interrupted (socket I/O ignores interrupts), so it is bounded by the HTTP
+ * client's read timeout instead, which {@code HttpClientConfig} keeps within the publish deadline.
+ */
+class BlockingProviderAdapter implements AsyncSocialMediaProvider {
+
+    private final SocialMediaProvider provider;
+    private final Executor executor;
+
+    BlockingProviderAdapter(SocialMediaProvider provider, Executor executor) {
+        this.provider = provider;
+        this.executor = executor;
+    }
+
+    @Override
+    public Platform getPlatformType() {
+        return provider.getPlatformType();
+    }
+
+    @Override
+    public CompletableFuture<SocialAccount> refreshTokenAsync(SocialAccount socialAccount) {
+        return CompletableFuture.supplyAsync(() -> provider.refreshToken(socialAccount), executor);
+    }
+
+    @Override
+    public CompletableFuture<PlatformPost> publishPostAsync(PlatformPost platformPost, List<MediaAttachment> attachments) {
+        return CompletableFuture.supplyAsync(() -> provider.publishPost(platformPost, attachments), executor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deletePostAsync(PlatformPost platformPost) {
+        return CompletableFuture.supplyAsync(() -> provider.deletePost(platformPost), executor);
+    }
+}
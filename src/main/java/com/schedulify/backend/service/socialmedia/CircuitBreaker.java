@@ -0,0 +1,193 @@
+package com.schedulify.backend.service.socialmedia;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker.
+ * <p>
+ * Outcomes of the last {@code windowSize} calls are kept in a ring buffer. Once at least
+ * {@code minimumCalls} are buffered and the failure rate reaches the threshold, the breaker opens
+ * and rejects calls for {@code openDuration}. It then goes half-open and lets up to
+ * {@code halfOpenProbes} calls through: that many successes close it again, any failure reopens it.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    /**
+     * Notified (while holding the breaker's lock) on every state change.
+     */
+    @FunctionalInterface
+    public interface TransitionListener {
+        void onTransition(State from, State to);
+    }
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+    private final TransitionListener listener;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int bufferedCalls;
+    private int bufferedFailures;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                          Duration openDuration, int halfOpenProbes, TransitionListener listener) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenProbes, listener, System::nanoTime);
+    }
+
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration,
+                   int halfOpenProbes, TransitionListener listener, LongSupplier nanoClock) {
+        if (windowSize <= 0 || halfOpenProbes <= 0) {
+            throw new IllegalArgumentException("windowSize and halfOpenProbes must be positive");
+        }
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(Math.max(1, minimumCalls), windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenProbes = halfOpenProbes;
+        this.listener = listener;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Ask permission for a call. Every granted call must be followed by exactly one of
+     * {@link #onSuccess()}, {@link #onFailure()} or {@link #release()}.
+     *
+     * @return False if the call must be short-circuited
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < openNanos) {
+                return false;
+            }
+            probesInFlight = 0;
+            probeSuccesses = 0;
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probeSuccesses >= halfOpenProbes) {
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    /**
+     * Record a call that reached the remote platform and got a healthy response.
+     */
+    public synchronized void onSuccess() {
+        switch (state) {
+            case CLOSED -> record(false);
+            case HALF_OPEN -> {
+                probesInFlight = Math.max(0, probesInFlight - 1);
+                if (++probeSuccesses >= halfOpenProbes) {
+                    resetWindow();
+                    transition(State.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // Late result of a call granted before the breaker opened
+            }
+        }
+    }
+
+    /**
+     * Record a call that failed because the remote platform is unhealthy (5xx, timeout, I/O).
+     */
+    public synchronized void onFailure() {
+        switch (state) {
+            case CLOSED -> {
+                record(true);
+                if (bufferedCalls >= minimumCalls && failureRate() >= failureRateThreshold) {
+                    open();
+                }
+            }
+            case HALF_OPEN -> open();
+            case OPEN -> {
+                // Already open
+            }
+        }
+    }
+
+    /**
+     * Give back a granted permit without recording an outcome, e.g. when the call never reached
+     * the platform.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Failure rate over the buffered calls, in percent.
+     */
+    public synchronized double failureRate() {
+        return bufferedCalls == 0 ? 0 : 100.0 * bufferedFailures / bufferedCalls;
+    }
+
+    public synchronized int bufferedCalls() {
+        return bufferedCalls;
+    }
+
+    /**
+     * Time until an open breaker lets probe calls through, or zero if it is not open.
+     */
+    public synchronized Duration remainingOpen() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, openedAtNanos + openNanos - nanoClock.getAsLong()));
+    }
+
+    private void record(boolean failure) {
+        if (bufferedCalls == window.length) {
+            if (window[windowIndex]) {
+                bufferedFailures--;
+            }
+        } else {
+            bufferedCalls++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            bufferedFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void resetWindow() {
+        bufferedCalls = 0;
+        bufferedFailures = 0;
+        windowIndex = 0;
+    }
+
+    private void open() {
+        openedAtNanos = nanoClock.getAsLong();
+        transition(State.OPEN);
+    }
+
+    private void transition(State to) {
+        State from = state;
+        state = to;
+        if (listener != null && from != to) {
+            listener.onTransition(from, to);
+        }
+    }
+}
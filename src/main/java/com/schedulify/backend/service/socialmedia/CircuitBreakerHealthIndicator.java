@@ -0,0 +1,40 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.model.enums.Platform;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reports per-platform circuit breaker state under {@code /actuator/health}.
+ * An open circuit only degrades publishing to that platform, so the application stays UP.
+ */
+@Component
+public class CircuitBreakerHealthIndicator implements HealthIndicator {
+
+    private final PlatformCircuitBreakers circuitBreakers;
+
+    public CircuitBreakerHealthIndicator(PlatformCircuitBreakers circuitBreakers) {
+        this.circuitBreakers = circuitBreakers;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = Health.up();
+        for (Map.Entry<Platform, CircuitBreaker> entry : circuitBreakers.getBreakers().entrySet()) {
+            CircuitBreaker breaker = entry.getValue();
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("state", breaker.getState());
+            details.put("failureRate", breaker.failureRate());
+            details.put("bufferedCalls", breaker.bufferedCalls());
+            if (breaker.getState() == CircuitBreaker.State.OPEN) {
+                details.put("retryInMs", breaker.remainingOpen().toMillis());
+            }
+            builder.withDetail(entry.getKey().name(), details);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,258 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schedulify.backend.exception.PublishOutcomeUnknownException;
+import com.schedulify.backend.service.socialmedia.graph.GraphBatchItem;
+import com.schedulify.backend.service.socialmedia.graph.GraphResponseParser;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Sends Facebook Graph API POSTs, combining concurrent calls into Graph batch requests.
+ * <p>
+ * Calls are collected for up to {@code social.facebook.batch.linger} milliseconds, or until
+ * {@code social.facebook.batch.max-size} (at most 50, the Graph limit) are pending, and then sent
+ * as a single {@code POST /?batch=[...]}. Each operation carries its own access token, so posts for
+ * different pages share a batch; the batch request itself is authenticated with the app access token.
+ * The per-operation responses are handed back to each caller, errors included, as if the call had
+ * been made on its own. If the batch request as a whole fails, no operation was run, so every caller
+ * gets its own retryable error; if it got no answer, every caller gets an unknown outcome instead.
+ * A batch of one is sent as a plain call.
+ */
+@Slf4j
+@Component
+public class FacebookBatchPublisher {
+
+    private static final int GRAPH_MAX_BATCH_SIZE = 50;
+
+    private final AsyncHttpFormClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String graphUrl;
+    private final String appAccessToken;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long lingerMillis;
+    private final ScheduledExecutorService flusher;
+    private final DistributionSummary batchSizes;
+
+    private final Object lock = new Object();
+    private List<Operation> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public FacebookBatchPublisher(@Qualifier("facebookAsyncHttpClient") AsyncHttpFormClient httpClient,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${social.facebook.graph-url:https://graph.facebook.com}") String graphUrl,
+                                  @Value("${social.facebook.app-id}") String appId,
+                                  @Value("${social.facebook.app-secret}") String appSecret,
+                                  @Value("${social.facebook.batch.enabled:false}") boolean enabled,
+                                  @Value("${social.facebook.batch.max-size:50}") int maxBatchSize,
+                                  @Value("${social.facebook.batch.linger:50}") long lingerMillis) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.graphUrl = graphUrl;
+        this.appAccessToken = appId + "|" + appSecret;
+        this.enabled = enabled;
+        this.maxBatchSize = Math.max(1, Math.min(maxBatchSize, GRAPH_MAX_BATCH_SIZE));
+        this.lingerMillis = lingerMillis;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("facebook-batch-");
+        threadFactory.setDaemon(true);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        this.batchSizes = DistributionSummary.builder("schedulify.facebook.batch.size")
+                .description("Operations per Graph API request")
+                .register(meterRegistry);
+    }
+
+    /**
+     * POST form parameters to a Graph API path, possibly as part of a batch.
+     *
+     * @param relativeUrl Path relative to the Graph URL, including the API version, e.g. {@code v19.0/123/feed}
+     * @param params      Form parameters, including {@code access_token}
+     * @param reader      Decoder for the response body
+     * @return Future of the decoded response; fails with the same exceptions as a plain call
+     */
+    public <T> CompletableFuture<T> postAsync(String relativeUrl, MultiValueMap<String, String> params,
+                                              AsyncHttpFormClient.BodyReader<T> reader) {
+        return postAsync(relativeUrl, params, reader, () -> true);
+    }
+
+    /**
+     * Like {@link #postAsync(String, MultiValueMap, AsyncHttpFormClient.BodyReader)}, asking {@code beforeSend}
+     * when the call actually leaves, which for a batched call is when its batch is flushed. If it answers
+     * false the call is not sent and the returned future is cancelled.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> postAsync(String relativeUrl, MultiValueMap<String, String> params,
+                                              AsyncHttpFormClient.BodyReader<T> reader, BooleanSupplier beforeSend) {
+        if (!enabled) {
+            return beforeSend.getAsBoolean()
+                    ? httpClient.post(graphUrl + "/" + relativeUrl, params, reader)
+                    : CompletableFuture.failedFuture(new CancellationException("Graph call abandoned before sending"));
+        }
+
+        Operation operation = new Operation(relativeUrl, params, reader, beforeSend, new CompletableFuture<>());
+        List<Operation> fullBatch = null;
+        synchronized (lock) {
+            pending.add(operation);
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = drainPending();
+            } else if (pending.size() == 1) {
+                scheduledFlush = flusher.schedule(this::flushPending, lingerMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            send(fullBatch);
+        }
+        return (CompletableFuture<T>) operation.result();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushPending();
+        flusher.shutdown();
+    }
+
+    private void flushPending() {
+        List<Operation> batch;
+        synchronized (lock) {
+            batch = drainPending();
+        }
+        send(batch);
+    }
+
+    private List<Operation> drainPending() {
+        List<Operation> batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(List<Operation> batch) {
+        // Callers that gave up (deadline, cancellation) before the batch left are not sent
+        batch.removeIf(operation -> {
+            if (operation.result().isDone()) {
+                return true;
+            }
+            if (!operation.beforeSend().getAsBoolean()) {
+                operation.result().cancel(false);
+                return true;
+            }
+            return false;
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizes.record(batch.size());
+
+        if (batch.size() == 1) {
+            Operation operation = batch.get(0);
+            httpClient.post(graphUrl + "/" + operation.relativeUrl(), operation.params(), operation.reader())
+                    .whenComplete((response, error) -> {
+                        if (error != null) {
+                            operation.result().completeExceptionally(error);
+                        } else {
+                            operation.result().complete(response);
+                        }
+                    });
+            return;
+        }
+
+        postBatch(batch).whenComplete((responses, error) -> {
+            if (error != null) {
+                log.warn("Graph batch of {} operations failed: {}", batch.size(), error.getMessage());
+                batch.forEach(operation -> operation.result().completeExceptionally(batchFailure(error)));
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i), responses != null && i < responses.size() ? responses.get(i) : null);
+            }
+        });
+    }
+
+    private CompletableFuture<List<GraphBatchItem>> postBatch(List<Operation> batch) {
+        List<Map<String, String>> operations = batch.stream()
+                .map(operation -> Map.of(
+                        "method", "POST",
+                        "relative_url", operation.relativeUrl(),
+                        "body", AsyncHttpFormClient.formEncode(operation.params())))
+                .toList();
+
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        // Operations keep their own page tokens; the batch is authenticated as the app
+        form.add("access_token", appAccessToken);
+        form.add("include_headers", "false");
+        try {
+            form.add("batch", objectMapper.writeValueAsString(operations));
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Could not encode Graph batch", e));
+        }
+        return httpClient.post(graphUrl, form, GraphResponseParser::readBatch);
+    }
+
+    /**
+     * Error for one operation of a batch request that failed as a whole. Each operation gets its own
+     * instance, since callers may add to it (suppressed exceptions, stack traces).
+     */
+    private static RuntimeException batchFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        String message = "Graph batch request failed: " + cause.getMessage();
+        if (PublishErrorClassifier.isOutcomeUnknown(PublishErrorClassifier.errorClassOf(cause))) {
+            // Sent but not answered: Graph may have run the operation
+            return new PublishOutcomeUnknownException(message, cause);
+        }
+        return new ResourceAccessException(message, cause instanceof IOException io ? io : new IOException(cause));
+    }
+
+    private void complete(Operation operation, GraphBatchItem item) {
+        if (item == null) {
+            // Graph returns null for operations it did not get to (e.g. the batch timed out)
+            operation.result().completeExceptionally(
+                    new ResourceAccessException("Graph batch operation was not processed"));
+            return;
+        }
+
+        byte[] body = item.body() == null ? new byte[0] : item.body().getBytes(StandardCharsets.UTF_8);
+        if (!HttpStatusCode.valueOf(item.code()).is2xxSuccessful()) {
+            operation.result().completeExceptionally(GraphResponseParser.toException(item.code(), body));
+            return;
+        }
+        try {
+            operation.result().complete(operation.reader().read(body));
+        } catch (IOException | RuntimeException e) {
+            operation.result().completeExceptionally(new IllegalStateException("Invalid Graph response", e));
+        }
+    }
+
+    private record Operation(String relativeUrl, MultiValueMap<String, String> params,
+                             AsyncHttpFormClient.BodyReader<?> reader, BooleanSupplier beforeSend,
+                             CompletableFuture<Object> result) {
+    }
+}
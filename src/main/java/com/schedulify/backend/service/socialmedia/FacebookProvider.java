@@ -1,32 +1,52 @@
 package com.schedulify.backend.service.socialmedia;
 
+import com.schedulify.backend.exception.FacebookGraphException;
 import com.schedulify.backend.model.entity.MediaAttachment;
 import com.schedulify.backend.model.enums.MediaType;
 import com.schedulify.backend.model.enums.Platform;
 import com.schedulify.backend.model.entity.PlatformPost;
 import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.service.socialmedia.graph.GraphAccountResponse;
+import com.schedulify.backend.service.socialmedia.graph.GraphError;
+import com.schedulify.backend.service.socialmedia.graph.GraphPostResponse;
+import com.schedulify.backend.service.socialmedia.graph.GraphResponseParser;
+import com.schedulify.backend.service.socialmedia.graph.GraphTokenResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BooleanSupplier;
 
 /**
  * Implementation of SocialMediaProvider for Facebook.
  */
 @Service
 public class FacebookProvider extends AbstractSocialMediaProvider {
+
+    // Graph error code 100 (invalid parameter) with subcode 33: the referenced object does not exist
+    private static final int GRAPH_INVALID_PARAMETER = 100;
+    private static final int GRAPH_OBJECT_NOT_FOUND_SUBCODE = 33;
     
     @Value("${social.facebook.app-id}")
     private String appId;
@@ -40,8 +60,25 @@ public class FacebookProvider extends AbstractSocialMediaProvider {
     @Value("${social.facebook.graph-url:https://graph.facebook.com}")
     private String graphUrl;
 
-    public FacebookProvider(RestTemplate restTemplate) {
-        super(restTemplate);
+    private final FacebookBatchPublisher batchPublisher;
+    private final FacebookVideoUploader videoUploader;
+    private final LocalMediaFiles localMediaFiles;
+    private final MediaUploadCache mediaUploadCache;
+    private final int photoUploadConcurrency;
+
+    public FacebookProvider(@Qualifier("facebookRestTemplate") RestTemplate restTemplate,
+                            @Qualifier("facebookAsyncHttpClient") AsyncHttpFormClient httpClient,
+                            FacebookBatchPublisher batchPublisher,
+                            FacebookVideoUploader videoUploader,
+                            LocalMediaFiles localMediaFiles,
+                            MediaUploadCache mediaUploadCache,
+                            @Value("${social.facebook.photo-upload-concurrency:10}") int photoUploadConcurrency) {
+        super(restTemplate, httpClient);
+        this.batchPublisher = batchPublisher;
+        this.videoUploader = videoUploader;
+        this.localMediaFiles = localMediaFiles;
+        this.mediaUploadCache = mediaUploadCache;
+        this.photoUploadConcurrency = Math.max(1, photoUploadConcurrency);
     }
     
     @Override
@@ -60,25 +97,17 @@ public class FacebookProvider extends AbstractSocialMediaProvider {
                 graphUrl, apiVersion, appId, appSecret, authCode, redirectUri
             );
             
-            ResponseEntity<Map> tokenResponse = restTemplate.getForEntity(tokenUrl, Map.class);
-            if (!tokenResponse.getStatusCode().is2xxSuccessful()) {
-                throw new RuntimeException("Failed to get access token from Facebook");
-            }
-            
-            String accessToken = (String) tokenResponse.getBody().get("access_token");
+            GraphTokenResponse tokenResponse = GraphResponseParser.readToken(getBody(tokenUrl));
+            String accessToken = tokenResponse.accessToken();
             result.put("accessToken", accessToken);
             
             // Get account details
             String meUrl = String.format("%s/%s/me?fields=id,name&access_token=%s", 
                 graphUrl, apiVersion, accessToken);
-            ResponseEntity<Map> meResponse = restTemplate.getForEntity(meUrl, Map.class);
-            
-            if (!meResponse.getStatusCode().is2xxSuccessful()) {
-                throw new RuntimeException("Failed to get account details from Facebook");
-            }
+            GraphAccountResponse meResponse = GraphResponseParser.readAccount(getBody(meUrl));
             
-            result.put("accountId", (String) meResponse.getBody().get("id"));
-            result.put("accountName", (String) meResponse.getBody().get("name"));
+            result.put("accountId", meResponse.id());
+            result.put("accountName", meResponse.name());
             
             // Get long-lived token
             String longTokenUrl = String.format(
@@ -86,16 +115,10 @@ public class FacebookProvider extends AbstractSocialMediaProvider {
                 graphUrl, apiVersion, appId, appSecret, accessToken
             );
             
-            ResponseEntity<Map> longTokenResponse = restTemplate.getForEntity(longTokenUrl, Map.class);
-            if (!longTokenResponse.getStatusCode().is2xxSuccessful()) {
-                throw new RuntimeException("Failed to get long-lived token from Facebook");
-            }
-            
-            String longLivedToken = (String) longTokenResponse.getBody().get("access_token");
-            Integer expiresIn = (Integer) longTokenResponse.getBody().get("expires_in");
+            GraphTokenResponse longTokenResponse = GraphResponseParser.readToken(getBody(longTokenUrl));
             
-            result.put("accessToken", longLivedToken);
-            result.put("expiresIn", String.valueOf(expiresIn));
+            result.put("accessToken", longTokenResponse.accessToken());
+            result.put("expiresIn", String.valueOf(longTokenResponse.expiresIn()));
             
             return result;
         } catch (Exception e) {
@@ -105,113 +128,333 @@ public class FacebookProvider extends AbstractSocialMediaProvider {
     }
     
     @Override
-    public SocialAccount refreshToken(SocialAccount socialAccount) {
-        try {
-            String refreshUrl = String.format(
-                "%s/%s/oauth/access_token?grant_type=fb_exchange_token&client_id=%s&client_secret=%s&fb_exchange_token=%s",
-                graphUrl, apiVersion, appId, appSecret, socialAccount.getAccessToken()
-            );
-            
-            ResponseEntity<Map> response = restTemplate.getForEntity(refreshUrl, Map.class);
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new RuntimeException("Failed to refresh Facebook token");
-            }
-            
-            String newToken = (String) response.getBody().get("access_token");
-            Integer expiresIn = (Integer) response.getBody().get("expires_in");
-            
-            socialAccount.setAccessToken(newToken);
-            socialAccount.setTokenExpiryDate(LocalDateTime.now().plusSeconds(expiresIn));
-            
-            return socialAccount;
-        } catch (Exception e) {
-            logger.error("Error refreshing Facebook token: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to refresh Facebook token", e);
-        }
+    public CompletableFuture<SocialAccount> refreshTokenAsync(SocialAccount socialAccount) {
+        String refreshUrl = String.format(
+            "%s/%s/oauth/access_token?grant_type=fb_exchange_token&client_id=%s&client_secret=%s&fb_exchange_token=%s",
+            graphUrl, apiVersion, appId, appSecret, socialAccount.getAccessToken()
+        );
+        
+        return httpClient.get(refreshUrl, GraphResponseParser::readToken)
+            .thenApply(token -> {
+                socialAccount.setAccessToken(token.accessToken());
+                // Long-lived tokens may come without an expiry
+                socialAccount.setTokenExpiryDate(token.expiresIn() != null
+                    ? LocalDateTime.now().plusSeconds(token.expiresIn())
+                    : null);
+                
+                return socialAccount;
+            })
+            .exceptionally(e -> {
+                Throwable cause = unwrap(e);
+                logger.error("Error refreshing Facebook token: {}", cause.getMessage(), cause);
+                throw new RuntimeException("Failed to refresh Facebook token", cause);
+            });
+    }
+    
+    @Override
+    protected CompletableFuture<PlatformPost> doPublishPostAsync(PlatformPost platformPost, List<MediaAttachment> attachments) {
+        return doPublishPostAsync(platformPost, attachments, () -> true);
     }
     
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Photos are uploaded unpublished first, so {@code beforeSend} is only asked once the feed post
+     * itself leaves, which in a Graph batch is when the batch is flushed.
+     */
     @Override
-    protected PlatformPost doPublishPost(PlatformPost platformPost, List<MediaAttachment> attachments) {
+    protected CompletableFuture<PlatformPost> doPublishPostAsync(PlatformPost platformPost, List<MediaAttachment> attachments,
+                                                                 BooleanSupplier beforeSend) {
         SocialAccount account = platformPost.getSocialAccount();
         String content = platformPost.getPlatformContent();
         
-        try {
-            String postUrl = String.format(
-                "%s/%s/%s/feed",
-                graphUrl, apiVersion, account.getAccountId()
-            );
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(org.springframework.http.MediaType.APPLICATION_FORM_URLENCODED);
-            
-            MultiValueMap<String, String> map = new LinkedMultiValueMap<>();
-            map.add("message", content);
-            map.add("access_token", account.getAccessToken());
-            
-            // Handle scheduled posts
-            if (platformPost.getPost().getScheduledTime() != null && 
-                platformPost.getPost().getScheduledTime().isAfter(LocalDateTime.now())) {
-                long scheduledTime = platformPost.getPost().getScheduledTime()
-                    .toEpochSecond(ZoneOffset.UTC);
-                map.add("published", "false");
-                map.add("scheduled_publish_time", String.valueOf(scheduledTime));
+        String feedPath = String.format("%s/%s/feed", apiVersion, account.getAccountId());
+        
+        MultiValueMap<String, String> map = new LinkedMultiValueMap<>();
+        map.add("message", content);
+        map.add("access_token", account.getAccessToken());
+        
+        // Handle scheduled posts
+        if (platformPost.getPost().getScheduledTime() != null && 
+            platformPost.getPost().getScheduledTime().isAfter(LocalDateTime.now())) {
+            long scheduledTime = platformPost.getPost().getScheduledTime()
+                .toEpochSecond(ZoneOffset.UTC);
+            map.add("published", "false");
+            map.add("scheduled_publish_time", String.valueOf(scheduledTime));
+        }
+        
+        // Handle attachments 
+        MediaAttachment video = attachments.stream()
+            .filter(attachment -> attachment.getMediaType() == MediaType.VIDEO)
+            .findFirst()
+            .orElse(null);
+        if (video != null) {
+            // A video is published on its own; other attachments are not combined with it
+            map.add("description", content);
+            map.remove("message");
+            if (localMediaFiles.resolve(video).isPresent()) {
+                // Stored by us, so there is no public URL Facebook could fetch: upload it in chunks
+                if (!beforeSend.getAsBoolean()) {
+                    return CompletableFuture.failedFuture(new CancellationException("Publishing abandoned before sending"));
+                }
+                map.remove("access_token");
+                return videoUploader.upload(account, video, map)
+                    .thenApply(videoId -> {
+                        platformPost.setPlatformPostId(videoId);
+                        platformPost.setPlatformPostUrl(String.format("https://facebook.com/%s", videoId));
+                        return platformPost;
+                    });
             }
-            
-            // Handle attachments 
-            if (!attachments.isEmpty()) {
-                // For simplicity, we're just handling the first attachment here
-                // A complete implementation would handle multiple attachments differently
-                MediaAttachment attachment = attachments.get(0);
+            map.add("file_url", video.getFileUrl());
+        } else if (!attachments.isEmpty()) {
+            // Upload every photo unpublished, then attach them all to a single feed post
+            boolean scheduled = map.containsKey("scheduled_publish_time");
+            // Cancellation is forwarded through every stage, so a deadline aborts the photo uploads in
+            // flight or the feed request, whichever is running
+            return Futures.thenCompose(uploadPhotos(account, attachments, scheduled, true), photos ->
+                Futures.handleCompose(publishFeed(feedPath, withMedia(map, photos.mediaIds()), platformPost, beforeSend), (published, error) -> {
+                    if (error == null) {
+                        return CompletableFuture.completedFuture(published);
+                    }
+                    if (photos.cachedIds().isEmpty() || !isRejected(error)) {
+                        return CompletableFuture.failedFuture(error);
+                    }
+                    // A reused photo may have expired on Facebook's side: forget it and upload again
+                    logger.info("Facebook rejected cached photos {}, uploading them again", photos.cachedIds());
+                    mediaUploadCache.evict(account, Platform.FACEBOOK, photos.cachedIds());
+                    return Futures.thenCompose(uploadPhotos(account, attachments, scheduled, false),
+                        fresh -> publishFeed(feedPath, withMedia(map, fresh.mediaIds()), platformPost, beforeSend));
+                }));
+        }
+        
+        return publishFeed(feedPath, map, platformPost, beforeSend);
+    }
+    
+    private CompletableFuture<PlatformPost> publishFeed(String feedPath, MultiValueMap<String, String> map,
+                                                        PlatformPost platformPost, BooleanSupplier beforeSend) {
+        // Sent on its own or as part of a Graph batch request, depending on social.facebook.batch
+        CompletableFuture<GraphPostResponse> request =
+            batchPublisher.postAsync(feedPath, map, GraphResponseParser::readPost, beforeSend);
+        return Futures.propagateCancel(request.thenApply(response -> {
+                String postId = response.id();
+                platformPost.setPlatformPostId(postId);
+                
+                // Set post URL
+                String postPageUrl = String.format("https://facebook.com/%s", postId);
+                platformPost.setPlatformPostUrl(postPageUrl);
                 
-                if (attachment.getMediaType() == MediaType.IMAGE) {
-                    map.add("link", attachment.getFileUrl());
-                } else if (attachment.getMediaType() == MediaType.VIDEO) {
-                    // For videos, we would need to use a different endpoint and approach
-                    // Simplified for this example
-                    map.add("description", content);
-                    map.add("file_url", attachment.getFileUrl());
+                return platformPost;
+            }), request);
+    }
+    
+    private static MultiValueMap<String, String> withMedia(MultiValueMap<String, String> map, List<String> mediaIds) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>(map);
+        for (int i = 0; i < mediaIds.size(); i++) {
+            params.set("attached_media[" + i + "]", "{\"media_fbid\":\"" + mediaIds.get(i) + "\"}");
+        }
+        return params;
+    }
+    
+    /**
+     * Whether Graph refused the post because one of its {@code attached_media} ids is unknown or has
+     * expired. Only then is re-uploading the photos worth it; any other error is returned as is.
+     */
+    private static boolean isRejected(Throwable error) {
+        if (!(error instanceof FacebookGraphException graphException) || graphException.getError() == null) {
+            return false;
+        }
+        GraphError graphError = graphException.getError();
+        if (graphError.code() != GRAPH_INVALID_PARAMETER) {
+            return false;
+        }
+        // "Object does not exist" for an expired fbid, otherwise a parameter error naming attached_media
+        return Integer.valueOf(GRAPH_OBJECT_NOT_FOUND_SUBCODE).equals(graphError.errorSubcode())
+                || (graphError.message() != null && graphError.message().contains("attached_media"));
+    }
+    
+    /**
+     * Media IDs of a post's photos, in attachment order, and those of them that were reused from the cache.
+     */
+    private record PhotoUploads(List<String> mediaIds, List<String> cachedIds) {
+    }
+    
+    /**
+     * Get media IDs for photos, reusing earlier uploads of the same content to this page where possible.
+     * Photos for scheduled posts are uploaded as temporary media, so they are neither reused nor cached.
+     */
+    private CompletableFuture<PhotoUploads> uploadPhotos(SocialAccount account, List<MediaAttachment> photos,
+                                                         boolean scheduled, boolean useCache) {
+        Map<String, String> cached = useCache && !scheduled
+            ? mediaUploadCache.find(account, Platform.FACEBOOK, photos)
+            : Map.of();
+        List<MediaAttachment> missing = photos.stream()
+            .filter(photo -> !cached.containsKey(MediaUploadCache.contentKey(photo)))
+            .toList();
+        
+        CompletableFuture<List<String>> uploads = uploadAll(account, missing, scheduled);
+        return Futures.propagateCancel(uploads.thenApply(uploadedIds -> {
+            Map<String, String> uploaded = new HashMap<>();
+            for (int i = 0; i < missing.size(); i++) {
+                uploaded.put(MediaUploadCache.contentKey(missing.get(i)), uploadedIds.get(i));
+                if (!scheduled) {
+                    mediaUploadCache.put(account, Platform.FACEBOOK, missing.get(i), uploadedIds.get(i));
                 }
             }
-            
-            HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(map, headers);
-            ResponseEntity<Map> response = restTemplate.exchange(
-                postUrl, HttpMethod.POST, request, Map.class);
-            
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new RuntimeException("Failed to publish post to Facebook");
+            List<String> mediaIds = new ArrayList<>(photos.size());
+            List<String> cachedIds = new ArrayList<>();
+            for (MediaAttachment photo : photos) {
+                String key = MediaUploadCache.contentKey(photo);
+                String mediaId = uploaded.get(key);
+                if (mediaId == null) {
+                    mediaId = cached.get(key);
+                    cachedIds.add(mediaId);
+                }
+                mediaIds.add(mediaId);
             }
-            
-            String postId = (String) response.getBody().get("id");
-            platformPost.setPlatformPostId(postId);
-            
-            // Set post URL
-            String postPageUrl = String.format("https://facebook.com/%s", postId);
-            platformPost.setPlatformPostUrl(postPageUrl);
-            
-            return platformPost;
-        } catch (Exception e) {
-            logger.error("Error publishing to Facebook: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to publish to Facebook", e);
+            return new PhotoUploads(mediaIds, cachedIds);
+        }), uploads);
+    }
+    
+    /**
+     * Upload photos as unpublished media, at most {@code social.facebook.photo-upload-concurrency} at a time.
+     * Fails as soon as one upload fails; uploads not started yet are skipped. Cancelling the result also
+     * cancels the uploads in flight.
+     *
+     * @return Future of the media IDs, in attachment order
+     */
+    private CompletableFuture<List<String>> uploadAll(SocialAccount account, List<MediaAttachment> photos,
+                                                      boolean scheduled) {
+        CompletableFuture<List<String>> all = new CompletableFuture<>();
+        List<CompletableFuture<String>> results = new ArrayList<>(photos.size());
+        photos.forEach(photo -> results.add(new CompletableFuture<>()));
+        AtomicReferenceArray<CompletableFuture<String>> uploads = new AtomicReferenceArray<>(photos.size());
+        AtomicInteger next = new AtomicInteger();
+        Runnable lane = new Runnable() {
+            @Override
+            public void run() {
+                int index = next.getAndIncrement();
+                if (index >= photos.size()) {
+                    return;
+                }
+                if (all.isDone()) {
+                    // Failed or cancelled: leave the rest out
+                    results.get(index).cancel(false);
+                    run();
+                    return;
+                }
+                CompletableFuture<String> upload;
+                try {
+                    upload = uploadPhoto(account, photos.get(index), scheduled);
+                } catch (RuntimeException e) {
+                    upload = CompletableFuture.failedFuture(e);
+                }
+                uploads.set(index, upload);
+                if (all.isCancelled()) {
+                    // Cancelled while this upload was being started
+                    upload.cancel(true);
+                }
+                upload.whenComplete((mediaId, error) -> {
+                    if (error != null) {
+                        results.get(index).completeExceptionally(unwrap(error));
+                    } else {
+                        results.get(index).complete(mediaId);
+                    }
+                    run();
+                });
+            }
+        };
+        all.whenComplete((mediaIds, error) -> {
+            if (all.isCancelled()) {
+                for (int i = 0; i < uploads.length(); i++) {
+                    CompletableFuture<String> upload = uploads.get(i);
+                    if (upload != null) {
+                        upload.cancel(true);
+                    }
+                }
+            }
+        });
+        results.forEach(result -> result.whenComplete((mediaId, error) -> {
+            if (error != null && !(error instanceof CancellationException)) {
+                all.completeExceptionally(error);
+            }
+        }));
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+            .thenRun(() -> all.complete(results.stream().map(CompletableFuture::join).toList()));
+
+        for (int i = 0; i < Math.min(photoUploadConcurrency, photos.size()); i++) {
+            lane.run();
         }
+        return all;
     }
     
-    @Override
-    public boolean deletePost(PlatformPost platformPost) {
+    /**
+     * Upload one photo without publishing it. Remote photos are fetched by Facebook from their URL
+     * (and may share a Graph batch); local ones are sent as a multipart upload streamed from disk.
+     *
+     * @return Future of the media ID
+     */
+    private CompletableFuture<String> uploadPhoto(SocialAccount account, MediaAttachment photo, boolean scheduled) {
+        String photosPath = String.format("%s/%s/photos", apiVersion, account.getAccountId());
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("published", "false");
+        if (scheduled) {
+            // Unpublished photos attached to a scheduled post must be temporary
+            params.add("temporary", "true");
+        }
+        params.add("access_token", account.getAccessToken());
+
+        Optional<Path> localFile = localMediaFiles.resolve(photo);
+        if (localFile.isEmpty()) {
+            params.add("url", photo.getFileUrl());
+            CompletableFuture<GraphPostResponse> request =
+                batchPublisher.postAsync(photosPath, params, GraphResponseParser::readPost);
+            return Futures.propagateCancel(request.thenApply(GraphPostResponse::id), request);
+        }
+
+        FileChannel channel;
+        long size;
         try {
-            String deleteUrl = String.format(
-                "%s/%s/%s?access_token=%s",
-                graphUrl, apiVersion, platformPost.getPlatformPostId(),
-                platformPost.getSocialAccount().getAccessToken()
-            );
-            
-            ResponseEntity<Map> response = restTemplate.exchange(
-                deleteUrl, HttpMethod.DELETE, null, Map.class);
-            
-            return response.getStatusCode().is2xxSuccessful();
-        } catch (Exception e) {
-            logger.error("Error deleting Facebook post: {}", e.getMessage(), e);
-            return false;
+            channel = FileChannel.open(localFile.get(), StandardOpenOption.READ);
+            size = channel.size();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(
+                new UncheckedIOException("Cannot read photo " + localFile.get().getFileName(), e));
         }
+        CompletableFuture<GraphPostResponse> request = httpClient.postFileChunk(graphUrl + "/" + photosPath,
+            params, "source", photo.getFilename(), channel, 0, size, GraphResponseParser::readPost);
+        return Futures.propagateCancel(request
+            .whenComplete((response, error) -> {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    logger.warn("Could not close {}: {}", localFile.get().getFileName(), e.getMessage());
+                }
+            })
+            .thenApply(GraphPostResponse::id), request);
+    }
+    
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+    
+    @Override
+    public CompletableFuture<Boolean> deletePostAsync(PlatformPost platformPost) {
+        String deleteUrl = String.format(
+            "%s/%s/%s?access_token=%s",
+            graphUrl, apiVersion, platformPost.getPlatformPostId(),
+            platformPost.getSocialAccount().getAccessToken()
+        );
+        
+        return httpClient.delete(deleteUrl, GraphResponseParser::readSuccess)
+            .exceptionally(e -> {
+                logger.error("Error deleting Facebook post: {}", e.getMessage(), e);
+                return false;
+            });
+    }
+    
+    private byte[] getBody(String url) {
+        byte[] body = restTemplate.getForObject(url, byte[].class);
+        return body != null ? body : new byte[0];
     }
     
     @Override
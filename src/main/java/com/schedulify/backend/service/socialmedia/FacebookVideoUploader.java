@@ -0,0 +1,227 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.model.entity.MediaAttachment;
+import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.service.socialmedia.graph.GraphResponseParser;
+import com.schedulify.backend.service.socialmedia.graph.GraphUploadSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uploads locally stored videos with the Graph API resumable upload protocol
+ * ({@code upload_phase=start|transfer|finish} on {@code /{page}/videos}).
+ * <p>
+ * The file is streamed from disk one chunk at a time through a {@link FileChannel}, so memory use
+ * is constant whatever the video size. Chunks are at most {@code social.facebook.video.chunk-size}
+ * bytes. A failed chunk is resent from the last offset Graph acknowledged, up to
+ * {@code social.facebook.video.max-chunk-retries} times in a row. If the upload still fails, its
+ * session is kept for {@code social.facebook.video.resume-window} so that the next publish attempt
+ * of the same video resumes instead of starting over; an attempt started while the previous one is
+ * still running joins it.
+ */
+@Slf4j
+@Component
+public class FacebookVideoUploader {
+
+    private final AsyncHttpFormClient httpClient;
+    private final String videoUrl;
+    private final String apiVersion;
+    private final LocalMediaFiles localMediaFiles;
+    private final long chunkSize;
+    private final int maxChunkRetries;
+    private final long retryDelayMillis;
+    private final long resumeWindowMillis;
+
+    private final Map<String, Upload> uploads = new ConcurrentHashMap<>();
+
+    public FacebookVideoUploader(@Qualifier("facebookAsyncHttpClient") AsyncHttpFormClient httpClient,
+                                 @Value("${social.facebook.video.url:https://graph-video.facebook.com}") String videoUrl,
+                                 @Value("${social.facebook.api-version}") String apiVersion,
+                                 LocalMediaFiles localMediaFiles,
+                                 @Value("${social.facebook.video.chunk-size:8388608}") long chunkSize,
+                                 @Value("${social.facebook.video.max-chunk-retries:3}") int maxChunkRetries,
+                                 @Value("${social.facebook.video.retry-delay:2000}") long retryDelayMillis,
+                                 @Value("${social.facebook.video.resume-window:3600000}") long resumeWindowMillis) {
+        this.httpClient = httpClient;
+        this.videoUrl = videoUrl;
+        this.apiVersion = apiVersion;
+        this.localMediaFiles = localMediaFiles;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxChunkRetries = maxChunkRetries;
+        this.retryDelayMillis = retryDelayMillis;
+        this.resumeWindowMillis = resumeWindowMillis;
+    }
+
+    /**
+     * Upload and publish a locally stored video.
+     *
+     * @param account      Page the video is published to
+     * @param attachment   Video attachment; must be stored locally (see {@link LocalMediaFiles})
+     * @param finishParams Parameters of the {@code finish} phase (description, scheduling, ...)
+     * @return Future of the video ID
+     */
+    public CompletableFuture<String> upload(SocialAccount account, MediaAttachment attachment,
+                                            MultiValueMap<String, String> finishParams) {
+        Path file = localMediaFiles.resolve(attachment)
+                .orElseThrow(() -> new IllegalArgumentException("Not a local upload: " + attachment.getFileUrl()));
+        String key = account.getAccountId() + ":" + file;
+        long now = System.currentTimeMillis();
+        uploads.values().removeIf(upload -> upload.isExpired(now));
+
+        Upload upload = uploads.compute(key, (k, previous) -> {
+            if (previous != null && previous.isRunning()) {
+                return previous;
+            }
+            Upload next = new Upload(previous != null ? previous.session : null, now);
+            next.result = start(account, file, finishParams, next);
+            return next;
+        });
+        upload.result.whenComplete((videoId, error) -> {
+            // Only transient failures are worth resuming
+            if (error == null || !isResendable(unwrap(error))) {
+                uploads.remove(key, upload);
+            }
+        });
+        return upload.result;
+    }
+
+    private CompletableFuture<String> start(SocialAccount account, Path file,
+                                            MultiValueMap<String, String> finishParams, Upload upload) {
+        FileChannel channel;
+        long fileSize;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            fileSize = channel.size();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new UncheckedIOException("Cannot read video " + file.getFileName(), e));
+        }
+
+        String url = String.format("%s/%s/%s/videos", videoUrl, apiVersion, account.getAccountId());
+        CompletableFuture<GraphUploadSession> session;
+        if (upload.session != null) {
+            log.info("Resuming upload of {} at byte {} of {}", file.getFileName(), upload.session.startOffset(), fileSize);
+            session = CompletableFuture.completedFuture(upload.session);
+        } else {
+            MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+            params.add("upload_phase", "start");
+            params.add("file_size", String.valueOf(fileSize));
+            params.add("access_token", account.getAccessToken());
+            session = httpClient.post(url, params, GraphResponseParser::readUploadSession);
+        }
+
+        return session
+                .thenCompose(started -> {
+                    upload.session = started;
+                    return transfer(url, account, file, channel, upload, 0);
+                })
+                .thenCompose(ignored -> {
+                    MultiValueMap<String, String> params = new LinkedMultiValueMap<>(finishParams);
+                    params.set("upload_phase", "finish");
+                    params.set("upload_session_id", upload.session.uploadSessionId());
+                    params.set("access_token", account.getAccessToken());
+                    return httpClient.post(url, params, GraphResponseParser::readSuccess);
+                })
+                .thenApply(success -> {
+                    if (!success) {
+                        throw new IllegalStateException("Facebook did not accept video " + upload.session.videoId());
+                    }
+                    return upload.session.videoId();
+                })
+                .whenComplete((videoId, error) -> {
+                    try {
+                        channel.close();
+                    } catch (IOException e) {
+                        log.warn("Could not close {}: {}", file.getFileName(), e.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * Send the chunk Graph expects next, then continue with the following one until Graph reports
+     * the upload complete. Offsets only advance when Graph acknowledges a chunk.
+     */
+    private CompletableFuture<Void> transfer(String url, SocialAccount account, Path file, FileChannel channel,
+                                             Upload upload, int failures) {
+        GraphUploadSession session = upload.session;
+        if (session.isComplete()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long length = Math.min(chunkSize, session.endOffset() - session.startOffset());
+        MultiValueMap<String, String> fields = new LinkedMultiValueMap<>();
+        fields.add("upload_phase", "transfer");
+        fields.add("upload_session_id", session.uploadSessionId());
+        fields.add("start_offset", String.valueOf(session.startOffset()));
+        fields.add("access_token", account.getAccessToken());
+
+        return httpClient.postFileChunk(url, fields, "video_file_chunk", file.getFileName().toString(),
+                        channel, session.startOffset(), length, GraphResponseParser::readUploadSession)
+                .handle((acknowledged, error) -> {
+                    if (error == null) {
+                        upload.session = new GraphUploadSession(session.uploadSessionId(), session.videoId(),
+                                acknowledged.startOffset(), acknowledged.endOffset());
+                        return transfer(url, account, file, channel, upload, 0);
+                    }
+                    Throwable cause = unwrap(error);
+                    if (failures >= maxChunkRetries || !isResendable(cause)) {
+                        return CompletableFuture.<Void>failedFuture(cause);
+                    }
+                    log.warn("Chunk at byte {} of {} failed ({}), resending", session.startOffset(),
+                            file.getFileName(), cause.getMessage());
+                    return CompletableFuture.runAsync(() -> { },
+                                    CompletableFuture.delayedExecutor(retryDelayMillis << failures, TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> transfer(url, account, file, channel, upload, failures + 1));
+                })
+                .thenCompose(next -> next);
+    }
+
+    /**
+     * Chunks are sent at the offset Graph last acknowledged, so an unanswered chunk can be resent
+     * as safely as one that failed.
+     */
+    private static boolean isResendable(Throwable error) {
+        String errorClass = PublishErrorClassifier.errorClassOf(error);
+        return PublishErrorClassifier.isRetryable(errorClass) || PublishErrorClassifier.isOutcomeUnknown(errorClass);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * An upload of one video to one page. The session holds the last acknowledged offsets.
+     */
+    private final class Upload {
+
+        private volatile GraphUploadSession session;
+        private final long startedAt;
+        private CompletableFuture<String> result;
+
+        private Upload(GraphUploadSession session, long startedAt) {
+            this.session = session;
+            this.startedAt = startedAt;
+        }
+
+        private boolean isRunning() {
+            return !result.isDone();
+        }
+
+        private boolean isExpired(long now) {
+            return !isRunning() && now - startedAt > resumeWindowMillis;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.schedulify.backend.service.socialmedia;
+
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * {@code multipart/form-data} body made of form fields and one file part holding a byte range of a file.
+ * <p>
+ * The range is streamed from the {@link FileChannel} through a small reusable buffer as the
+ * connection accepts data, so memory use does not depend on the chunk size. Positional reads are
+ * used, leaving the channel position untouched. The channel is owned by the caller.
+ */
+class FileChunkEntityProducer implements AsyncEntityProducer {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String contentType;
+    private final ByteBuffer head;
+    private final ByteBuffer tail;
+    private final FileChannel file;
+    private final long end;
+    private final long contentLength;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    private long position;
+
+    FileChunkEntityProducer(MultiValueMap<String, String> fields, String fileField, String filename,
+                            FileChannel file, long offset, long length) {
+        String boundary = "----schedulify" + UUID.randomUUID().toString().replace("-", "");
+        StringBuilder preamble = new StringBuilder();
+        fields.forEach((name, values) -> values.forEach(value -> preamble
+                .append("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"").append(name).append("\"\r\n\r\n")
+                .append(value).append("\r\n")));
+        preamble.append("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"").append(fileField)
+                .append("\"; filename=\"").append(filename.replace("\"", "")).append("\"\r\n")
+                .append("Content-Type: application/octet-stream\r\n\r\n");
+
+        this.contentType = "multipart/form-data; boundary=" + boundary;
+        this.head = ByteBuffer.wrap(preamble.toString().getBytes(StandardCharsets.UTF_8));
+        this.tail = ByteBuffer.wrap(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        this.file = file;
+        this.position = offset;
+        this.end = offset + length;
+        this.contentLength = head.remaining() + length + tail.remaining();
+        this.buffer.flip();
+    }
+
+    @Override
+    public void produce(DataStreamChannel channel) throws IOException {
+        if (head.hasRemaining() && channel.write(head) == 0) {
+            return;
+        }
+        while (!head.hasRemaining() && (buffer.hasRemaining() || position < end)) {
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                buffer.limit((int) Math.min(BUFFER_SIZE, end - position));
+                int read = file.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("File ended " + (end - position) + " bytes before the chunk end");
+                }
+                position += read;
+                buffer.flip();
+            }
+            if (channel.write(buffer) == 0) {
+                return;
+            }
+        }
+        if (!head.hasRemaining() && !buffer.hasRemaining() && position >= end) {
+            if (tail.hasRemaining()) {
+                channel.write(tail);
+            }
+            if (!tail.hasRemaining()) {
+                channel.endStream();
+            }
+        }
+    }
+
+    @Override
+    public int available() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        // Retried by the uploader from the last acknowledged offset, not by the HTTP client
+        return false;
+    }
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public String getContentEncoding() {
+        return null;
+    }
+
+    @Override
+    public boolean isChunked() {
+        return false;
+    }
+
+    @Override
+    public Set<String> getTrailerNames() {
+        return null;
+    }
+
+    @Override
+    public void failed(Exception cause) {
+        // Nothing to clean up; the caller owns the file channel
+    }
+
+    @Override
+    public void releaseResources() {
+        // Nothing to release; the caller owns the file channel
+    }
+}
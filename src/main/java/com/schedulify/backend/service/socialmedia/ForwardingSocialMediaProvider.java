@@ -0,0 +1,89 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.model.entity.MediaAttachment;
+import com.schedulify.backend.model.entity.PlatformPost;
+import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.model.enums.Platform;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Base class for decorators around a {@link SocialMediaProvider}.
+ * Forwards every call to the delegate; subclasses override the calls they need to guard.
+ * Async calls go to the delegate's async view (see {@link AsyncSocialMediaProvider#of}).
+ */
+public abstract class ForwardingSocialMediaProvider implements SocialMediaProvider, AsyncSocialMediaProvider {
+
+    protected final SocialMediaProvider delegate;
+    protected final AsyncSocialMediaProvider asyncDelegate;
+
+    protected ForwardingSocialMediaProvider(SocialMediaProvider delegate, Executor blockingExecutor) {
+        this.delegate = delegate;
+        this.asyncDelegate = AsyncSocialMediaProvider.of(delegate, blockingExecutor);
+    }
+
+    @Override
+    public Platform getPlatformType() {
+        return delegate.getPlatformType();
+    }
+
+    @Override
+    public Map<String, String> authenticate(String authCode, String redirectUri) {
+        return delegate.authenticate(authCode, redirectUri);
+    }
+
+    @Override
+    public SocialAccount refreshToken(SocialAccount socialAccount) {
+        return delegate.refreshToken(socialAccount);
+    }
+
+    @Override
+    public PlatformPost publishPost(PlatformPost platformPost, List<MediaAttachment> attachments) {
+        return delegate.publishPost(platformPost, attachments);
+    }
+
+    @Override
+    public boolean deletePost(PlatformPost platformPost) {
+        return delegate.deletePost(platformPost);
+    }
+
+    @Override
+    public CompletableFuture<SocialAccount> refreshTokenAsync(SocialAccount socialAccount) {
+        return asyncDelegate.refreshTokenAsync(socialAccount);
+    }
+
+    @Override
+    public CompletableFuture<PlatformPost> publishPostAsync(PlatformPost platformPost, List<MediaAttachment> attachments) {
+        return asyncDelegate.publishPostAsync(platformPost, attachments);
+    }
+
+    @Override
+    public CompletableFuture<PlatformPost> publishPostAsync(PlatformPost platformPost, List<MediaAttachment> attachments,
+                                                            BooleanSupplier beforeSend) {
+        return asyncDelegate.publishPostAsync(platformPost, attachments, beforeSend);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deletePostAsync(PlatformPost platformPost) {
+        return asyncDelegate.deletePostAsync(platformPost);
+    }
+
+    @Override
+    public String formatContent(String content, List<MediaAttachment> mediaAttachments) {
+        return delegate.formatContent(content, mediaAttachments);
+    }
+
+    @Override
+    public Map<String, Object> validateContent(String content, List<MediaAttachment> mediaAttachments) {
+        return delegate.validateContent(content, mediaAttachments);
+    }
+
+    @Override
+    public Map<String, Object> getPlatformConstraints() {
+        return delegate.getPlatformConstraints();
+    }
+}
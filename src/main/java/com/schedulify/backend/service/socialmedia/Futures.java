@@ -0,0 +1,92 @@
+package com.schedulify.backend.service.socialmedia;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Composition helpers that keep provider futures cancellable end to end.
+ * <p>
+ * {@link CompletableFuture#cancel(boolean)} only completes the future it is called on; the stages
+ * it was derived from keep running. An HTTP exchange is aborted by cancelling the future returned
+ * by {@link AsyncHttpFormClient}, so stages built on top of it forward cancellation with these helpers.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class Futures {
+
+    /**
+     * Cancel {@code source} when {@code dependent} is cancelled.
+     *
+     * @return {@code dependent}
+     */
+    static <T> CompletableFuture<T> propagateCancel(CompletableFuture<T> dependent, Future<?> source) {
+        dependent.whenComplete((result, error) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
+
+    /**
+     * {@link CompletableFuture#thenCompose} whose result, when cancelled, cancels the stage that is running.
+     */
+    static <T, U> CompletableFuture<U> thenCompose(CompletableFuture<T> source,
+                                                   Function<? super T, ? extends CompletableFuture<U>> next) {
+        return handleCompose(source, (value, error) -> error != null
+                ? CompletableFuture.failedFuture(error)
+                : next.apply(value));
+    }
+
+    /**
+     * Continue with the future returned by {@code next}, which receives the value or the (unwrapped)
+     * error of {@code source}. Cancelling the result cancels the stage that is running; {@code next}
+     * is not called once the result is cancelled.
+     */
+    static <T, U> CompletableFuture<U> handleCompose(CompletableFuture<T> source,
+                                                     BiFunction<? super T, Throwable, ? extends CompletableFuture<U>> next) {
+        CompletableFuture<U> result = new CompletableFuture<>();
+        AtomicReference<Future<?>> running = new AtomicReference<>(source);
+        source.whenComplete((value, error) -> {
+            if (result.isDone()) {
+                return;
+            }
+            CompletableFuture<U> stage;
+            try {
+                stage = next.apply(value, error == null ? null : unwrap(error));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            running.set(stage);
+            if (result.isCancelled()) {
+                // Cancelled while the next stage was being created
+                stage.cancel(true);
+                return;
+            }
+            stage.whenComplete((staged, stageError) -> {
+                if (stageError != null) {
+                    result.completeExceptionally(unwrap(stageError));
+                } else {
+                    result.complete(staged);
+                }
+            });
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                running.get().cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
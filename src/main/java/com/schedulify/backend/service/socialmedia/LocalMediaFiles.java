@@ -0,0 +1,37 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.model.entity.MediaAttachment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * Resolves attachments stored by this application ({@code /uploads/<file>}) to files in {@code file.upload-dir}.
+ * Such files have no public URL, so providers have to send their content instead of a link.
+ */
+@Component
+public class LocalMediaFiles {
+
+    private static final String LOCAL_PREFIX = "/uploads/";
+
+    private final Path uploadDir;
+
+    public LocalMediaFiles(@Value("${file.upload-dir:uploads}") String uploadDir) {
+        this.uploadDir = Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Local file of an attachment, or empty if the attachment is not stored locally.
+     */
+    public Optional<Path> resolve(MediaAttachment attachment) {
+        String fileUrl = attachment.getFileUrl();
+        if (fileUrl == null || !fileUrl.startsWith(LOCAL_PREFIX)) {
+            return Optional.empty();
+        }
+        Path file = uploadDir.resolve(fileUrl.substring(LOCAL_PREFIX.length())).normalize();
+        return file.startsWith(uploadDir) ? Optional.of(file) : Optional.empty();
+    }
+}
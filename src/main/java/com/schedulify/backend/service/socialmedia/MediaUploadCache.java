@@ -0,0 +1,158 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.model.entity.MediaAttachment;
+import com.schedulify.backend.model.entity.MediaUpload;
+import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.model.enums.Platform;
+import com.schedulify.backend.repository.MediaUploadRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Platform media IDs of content already uploaded for a social account, keyed by content hash,
+ * account and platform, so providers can reference an upload instead of sending the bytes again.
+ * <p>
+ * Entries live for {@code social.<platform>.media-cache.ttl} (default {@code social.media-cache.ttl})
+ * and are evicted when a platform rejects their ID. Lookups run on the calling thread, which must not
+ * be an HTTP I/O thread; writes are handed to the publish pool so they can be made from any callback.
+ */
+@Slf4j
+@Component
+public class MediaUploadCache {
+
+    private final MediaUploadRepository mediaUploadRepository;
+    private final ThreadPoolTaskExecutor publishExecutor;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Map<Platform, Duration> ttls = new EnumMap<>(Platform.class);
+
+    public MediaUploadCache(MediaUploadRepository mediaUploadRepository,
+                            @Qualifier("publishExecutor") ThreadPoolTaskExecutor publishExecutor,
+                            MeterRegistry meterRegistry,
+                            Environment environment,
+                            @Value("${social.media-cache.enabled:true}") boolean enabled,
+                            @Value("${social.media-cache.ttl:86400000}") long defaultTtlMillis) {
+        this.mediaUploadRepository = mediaUploadRepository;
+        this.publishExecutor = publishExecutor;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        for (Platform platform : Platform.values()) {
+            ttls.put(platform, Duration.ofMillis(environment.getProperty(
+                    "social." + platform.name().toLowerCase() + ".media-cache.ttl", Long.class, defaultTtlMillis)));
+        }
+    }
+
+    /**
+     * Key identifying the content of an attachment: its content hash, or for attachments stored
+     * before hashes were recorded, a hash of its URL.
+     */
+    public static String contentKey(MediaAttachment attachment) {
+        if (attachment.getContentHash() != null) {
+            return attachment.getContentHash();
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(("url:" + attachment.getFileUrl()).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Look up unexpired uploads of the given attachments.
+     *
+     * @return Platform media ID by {@link #contentKey content key}, for the attachments that have one
+     */
+    public Map<String, String> find(SocialAccount account, Platform platform, Collection<MediaAttachment> attachments) {
+        if (!enabled || attachments.isEmpty()) {
+            return Map.of();
+        }
+        List<String> keys = attachments.stream().map(MediaUploadCache::contentKey).distinct().toList();
+        Map<String, String> found;
+        try {
+            found = mediaUploadRepository.findValid(account.getId(), platform, keys, LocalDateTime.now()).stream()
+                    .collect(Collectors.toMap(MediaUpload::getContentHash, MediaUpload::getMediaId));
+        } catch (RuntimeException e) {
+            // The cache only saves work; never fail a publish because of it
+            log.warn("Media upload cache lookup failed: {}", e.getMessage());
+            return Map.of();
+        }
+        meterRegistry.counter("schedulify.media-cache.lookups", "platform", platform.name(), "result", "hit")
+                .increment(found.size());
+        meterRegistry.counter("schedulify.media-cache.lookups", "platform", platform.name(), "result", "miss")
+                .increment(keys.size() - found.size());
+        return found;
+    }
+
+    /**
+     * Remember the platform media ID of an uploaded attachment.
+     */
+    public void put(SocialAccount account, Platform platform, MediaAttachment attachment, String mediaId) {
+        if (!enabled || mediaId == null) {
+            return;
+        }
+        String key = contentKey(attachment);
+        Long accountId = account.getId();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(ttls.get(platform));
+        runInBackground(() -> mediaUploadRepository.upsert(key, accountId, platform.name(), mediaId, expiresAt, now));
+    }
+
+    /**
+     * Forget media IDs the platform no longer accepts.
+     */
+    public void evict(SocialAccount account, Platform platform, Collection<String> mediaIds) {
+        if (!enabled || mediaIds.isEmpty()) {
+            return;
+        }
+        Long accountId = account.getId();
+        List<String> ids = List.copyOf(mediaIds);
+        meterRegistry.counter("schedulify.media-cache.evictions", "platform", platform.name()).increment(ids.size());
+        runInBackground(() -> mediaUploadRepository.deleteByMediaIds(accountId, platform, ids));
+    }
+
+    @Scheduled(fixedDelayString = "${social.media-cache.purge-interval:3600000}",
+            initialDelayString = "${social.media-cache.purge-interval:3600000}")
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        int purged = mediaUploadRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired media uploads", purged);
+        }
+    }
+
+    private void runInBackground(Runnable write) {
+        try {
+            publishExecutor.execute(() -> {
+                try {
+                    write.run();
+                } catch (RuntimeException e) {
+                    log.warn("Media upload cache write failed: {}", e.getMessage());
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.debug("Publish pool saturated, skipping media upload cache write");
+        }
+    }
+}
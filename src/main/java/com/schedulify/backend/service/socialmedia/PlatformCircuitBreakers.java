@@ -0,0 +1,139 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.exception.CircuitOpenException;
+import com.schedulify.backend.exception.RateLimitExceededException;
+import com.schedulify.backend.model.entity.PlatformPost;
+import com.schedulify.backend.model.enums.Platform;
+import com.schedulify.backend.model.enums.PostStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * One {@link CircuitBreaker} per platform, guarding publish calls.
+ * <p>
+ * Configured globally under {@code social.circuit-breaker.*} and overridable per platform, e.g.
+ * {@code social.facebook.circuit-breaker.open-duration=30000}. Only failures that indicate an
+ * unhealthy platform (5xx, 429, timeouts, I/O) count against the breaker; client errors such as an
+ * invalid token mean the platform answered and count as successes, and local rejections (rate
+ * limiter, full executor) are not recorded at all.
+ */
+@Slf4j
+@Component
+public class PlatformCircuitBreakers {
+
+    private static final Set<String> LOCAL_ERRORS = Set.of(
+            RateLimitExceededException.class.getName(),
+            CircuitOpenException.class.getName(),
+            RejectedExecutionException.class.getName(),
+            InterruptedException.class.getName());
+
+    private final Map<Platform, CircuitBreaker> breakers = new EnumMap<>(Platform.class);
+    private final Map<Platform, Counter> shortCircuited = new EnumMap<>(Platform.class);
+
+    public PlatformCircuitBreakers(Environment environment,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${social.circuit-breaker.window-size:20}") int defaultWindowSize,
+                                   @Value("${social.circuit-breaker.minimum-calls:10}") int defaultMinimumCalls,
+                                   @Value("${social.circuit-breaker.failure-rate-threshold:50}") double defaultThreshold,
+                                   @Value("${social.circuit-breaker.open-duration:60000}") long defaultOpenMillis,
+                                   @Value("${social.circuit-breaker.half-open-probes:3}") int defaultProbes) {
+        for (Platform platform : Platform.values()) {
+            String prefix = "social." + platform.name().toLowerCase() + ".circuit-breaker.";
+            CircuitBreaker breaker = new CircuitBreaker(
+                    environment.getProperty(prefix + "window-size", Integer.class, defaultWindowSize),
+                    environment.getProperty(prefix + "minimum-calls", Integer.class, defaultMinimumCalls),
+                    environment.getProperty(prefix + "failure-rate-threshold", Double.class, defaultThreshold),
+                    Duration.ofMillis(environment.getProperty(prefix + "open-duration", Long.class, defaultOpenMillis)),
+                    environment.getProperty(prefix + "half-open-probes", Integer.class, defaultProbes),
+                    (from, to) -> onTransition(meterRegistry, platform, from, to));
+            breakers.put(platform, breaker);
+
+            Gauge.builder("schedulify.circuit-breaker.state", breaker, b -> b.getState().ordinal())
+                    .description("Circuit breaker state: 0 closed, 1 half-open, 2 open")
+                    .tag("platform", platform.name())
+                    .register(meterRegistry);
+            Gauge.builder("schedulify.circuit-breaker.failure-rate", breaker, CircuitBreaker::failureRate)
+                    .description("Failure rate over the sliding window, in percent")
+                    .tag("platform", platform.name())
+                    .register(meterRegistry);
+            shortCircuited.put(platform, Counter.builder("schedulify.circuit-breaker.short-circuited")
+                    .description("Publish calls rejected because the circuit was open")
+                    .tag("platform", platform.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Ask permission to call the given platform.
+     *
+     * @return False if the call must be short-circuited
+     */
+    public boolean tryAcquire(Platform platform) {
+        if (breakers.get(platform).tryAcquire()) {
+            return true;
+        }
+        shortCircuited.get(platform).increment();
+        return false;
+    }
+
+    /**
+     * Give back a permit for a call that never reached the platform.
+     */
+    public void release(Platform platform) {
+        breakers.get(platform).release();
+    }
+
+    /**
+     * Record the outcome of a permitted publish call.
+     *
+     * @param platformPost Platform post carrying the outcome of the call
+     */
+    public void record(PlatformPost platformPost) {
+        CircuitBreaker breaker = breakers.get(platformPost.getPlatform());
+        String errorClass = platformPost.getLastErrorClass();
+        if (platformPost.getStatus() != PostStatus.FAILED) {
+            breaker.onSuccess();
+        } else if (errorClass != null && LOCAL_ERRORS.contains(errorClass)) {
+            breaker.release();
+        } else if (PublishErrorClassifier.isRetryable(errorClass) || PublishErrorClassifier.isOutcomeUnknown(errorClass)) {
+            // An unanswered request is a sign of an unhealthy platform even though it is not retried
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+    }
+
+    /**
+     * Time until the platform's breaker lets calls through again; zero unless it is open.
+     */
+    public Duration remainingOpen(Platform platform) {
+        return breakers.get(platform).remainingOpen();
+    }
+
+    public Map<Platform, CircuitBreaker> getBreakers() {
+        return Collections.unmodifiableMap(breakers);
+    }
+
+    private static void onTransition(MeterRegistry meterRegistry, Platform platform,
+                                     CircuitBreaker.State from, CircuitBreaker.State to) {
+        meterRegistry.counter("schedulify.circuit-breaker.transitions",
+                "platform", platform.name(), "from", from.name(), "to", to.name()).increment();
+        if (to == CircuitBreaker.State.OPEN) {
+            log.warn("Circuit for {} opened ({} -> {})", platform, from, to);
+        } else {
+            log.info("Circuit for {} {} -> {}", platform, from, to);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.exception.RateLimitExceededException;
+import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.model.enums.Platform;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits outbound calls to social media platforms.
+ * <p>
+ * Each (platform, platform account) pair gets its own {@link TokenBucket}, configured per platform:
+ * <pre>
+ * social.facebook.rate-limit.permits-per-second=5
+ * social.facebook.rate-limit.burst=10
+ * social.facebook.rate-limit.max-wait=30000
+ * </pre>
+ * Calls over budget are delayed until a permit is available; only calls that would have to wait
+ * longer than {@code max-wait} are rejected.
+ */
+@Component
+public class ProviderRateLimiter {
+
+    private final Map<Platform, Limit> limits = new EnumMap<>(Platform.class);
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<Platform, Timer> waitTimers = new EnumMap<>(Platform.class);
+    private final Map<Platform, Counter> rejectedCounters = new EnumMap<>(Platform.class);
+
+    public ProviderRateLimiter(Environment environment,
+                               MeterRegistry meterRegistry,
+                               @Value("${social.rate-limit.permits-per-second:10}") double defaultRate,
+                               @Value("${social.rate-limit.burst:20}") int defaultBurst,
+                               @Value("${social.rate-limit.max-wait:30000}") long defaultMaxWaitMillis) {
+        for (Platform platform : Platform.values()) {
+            String prefix = "social." + platform.name().toLowerCase() + ".rate-limit.";
+            limits.put(platform, new Limit(
+                    environment.getProperty(prefix + "permits-per-second", Double.class, defaultRate),
+                    environment.getProperty(prefix + "burst", Integer.class, defaultBurst),
+                    TimeUnit.MILLISECONDS.toNanos(
+                            environment.getProperty(prefix + "max-wait", Long.class, defaultMaxWaitMillis))));
+            waitTimers.put(platform, Timer.builder("schedulify.provider.rate-limit.wait")
+                    .description("Time calls spent waiting for a rate limit permit")
+                    .tag("platform", platform.name())
+                    .register(meterRegistry));
+            rejectedCounters.put(platform, Counter.builder("schedulify.provider.rate-limit.rejected")
+                    .description("Calls rejected because the rate limit wait exceeded max-wait")
+                    .tag("platform", platform.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Reserve a permit for a call on behalf of the given account without blocking.
+     *
+     * @return Nanoseconds the caller must wait before making the call
+     * @throws RateLimitExceededException if the wait would exceed the configured maximum
+     */
+    public long reserve(Platform platform, SocialAccount account) {
+        Limit limit = limits.get(platform);
+        TokenBucket bucket = buckets.computeIfAbsent(keyOf(platform, account),
+                key -> new TokenBucket(limit.permitsPerSecond(), limit.burst()));
+        long waitNanos = bucket.reserve(limit.maxWaitNanos());
+        if (waitNanos < 0) {
+            rejectedCounters.get(platform).increment();
+            throw new RateLimitExceededException("Rate limit exceeded for " + platform + " account "
+                    + (account != null ? account.getAccountId() : "<app>"));
+        }
+        waitTimers.get(platform).record(waitNanos, TimeUnit.NANOSECONDS);
+        return waitNanos;
+    }
+
+    /**
+     * Block until a permit for the given account is available.
+     *
+     * @throws RateLimitExceededException if the wait would exceed the configured maximum
+     */
+    public void acquire(Platform platform, SocialAccount account) {
+        long waitNanos = reserve(platform, account);
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RateLimitExceededException("Interrupted while waiting for " + platform + " rate limit");
+            }
+        }
+    }
+
+    private static String keyOf(Platform platform, SocialAccount account) {
+        return platform.name() + ':' + (account != null ? account.getAccountId() : "");
+    }
+
+    private record Limit(double permitsPerSecond, int burst, long maxWaitNanos) {
+    }
+}
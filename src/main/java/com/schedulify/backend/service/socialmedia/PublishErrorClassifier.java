@@ -0,0 +1,120 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.exception.CircuitOpenException;
+import com.schedulify.backend.exception.PublishOutcomeUnknownException;
+import com.schedulify.backend.exception.RateLimitExceededException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Classifies publish failures as retryable (transient) or permanent.
+ * <p>
+ * Providers wrap remote errors in their own exceptions, so classification walks the cause chain
+ * and records the most specific transport-level error it finds.
+ * <p>
+ * A third class of failure is neither: a request that was sent but never answered (a read timeout,
+ * or a deadline that expired after the request went out) may have been published anyway. Retrying
+ * it could post twice, so such outcomes are {@linkplain #isOutcomeUnknown(String) unknown} and
+ * never retryable.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PublishErrorClassifier {
+
+    private static final List<Class<? extends Throwable>> RETRYABLE = List.of(
+            HttpServerErrorException.class,
+            HttpClientErrorException.TooManyRequests.class,
+            ResourceAccessException.class,
+            IOException.class,
+            TimeoutException.class,
+            InterruptedException.class,
+            RejectedExecutionException.class,
+            RateLimitExceededException.class,
+            CircuitOpenException.class);
+
+    private static final List<Class<? extends Throwable>> SIGNIFICANT = List.of(
+            RestClientResponseException.class,
+            ResourceAccessException.class,
+            IOException.class,
+            TimeoutException.class,
+            RateLimitExceededException.class,
+            CircuitOpenException.class);
+
+    /**
+     * Get the class name of the error that best describes a failure.
+     *
+     * @param error The caught exception
+     * @return Fully qualified class name to persist as the last error class
+     */
+    public static String errorClassOf(Throwable error) {
+        // A timeout anywhere in the chain decides whether the request may have reached the platform
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof SocketTimeoutException || current instanceof PublishOutcomeUnknownException) {
+                return current.getClass().getName();
+            }
+        }
+        Throwable root = error;
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            for (Class<? extends Throwable> type : SIGNIFICANT) {
+                if (type.isInstance(current)) {
+                    return current.getClass().getName();
+                }
+            }
+            root = current;
+        }
+        return root.getClass().getName();
+    }
+
+    /**
+     * Check whether a failure with the given error class is worth retrying.
+     *
+     * @param errorClass Fully qualified class name, as returned by {@link #errorClassOf(Throwable)}
+     * @return True for transient errors (5xx, 429, timeouts, I/O, local throttling, open circuits),
+     * false for permanent errors and unknown outcomes
+     */
+    public static boolean isRetryable(String errorClass) {
+        Class<?> type = typeOf(errorClass);
+        return type != null
+                && !isOutcomeUnknown(type)
+                && RETRYABLE.stream().anyMatch(retryable -> retryable.isAssignableFrom(type));
+    }
+
+    /**
+     * Check whether a failure with the given error class leaves it unknown if the platform published the post.
+     *
+     * @param errorClass Fully qualified class name, as returned by {@link #errorClassOf(Throwable)}
+     * @return True for read timeouts and for deadlines that expired after the request was sent
+     */
+    public static boolean isOutcomeUnknown(String errorClass) {
+        Class<?> type = typeOf(errorClass);
+        return type != null && isOutcomeUnknown(type);
+    }
+
+    private static boolean isOutcomeUnknown(Class<?> type) {
+        // A connect timeout means nothing was sent
+        return PublishOutcomeUnknownException.class.isAssignableFrom(type)
+                || (SocketTimeoutException.class.isAssignableFrom(type)
+                && !ConnectTimeoutException.class.isAssignableFrom(type));
+    }
+
+    private static Class<?> typeOf(String errorClass) {
+        if (errorClass == null) {
+            return null;
+        }
+        try {
+            return Class.forName(errorClass, false, PublishErrorClassifier.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+}
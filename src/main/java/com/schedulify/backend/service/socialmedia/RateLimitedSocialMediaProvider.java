@@ -0,0 +1,107 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.exception.RateLimitExceededException;
+import com.schedulify.backend.model.entity.MediaAttachment;
+import com.schedulify.backend.model.entity.PlatformPost;
+import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.model.enums.PostStatus;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Applies {@link ProviderRateLimiter} to every remote call made on behalf of a social account.
+ * Blocking calls sleep until their permit is available; async calls are delayed without holding a thread.
+ */
+public class RateLimitedSocialMediaProvider extends ForwardingSocialMediaProvider {
+
+    private final ProviderRateLimiter rateLimiter;
+
+    public RateLimitedSocialMediaProvider(SocialMediaProvider delegate, ProviderRateLimiter rateLimiter,
+                                          Executor blockingExecutor) {
+        super(delegate, blockingExecutor);
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public SocialAccount refreshToken(SocialAccount socialAccount) {
+        rateLimiter.acquire(getPlatformType(), socialAccount);
+        return delegate.refreshToken(socialAccount);
+    }
+
+    @Override
+    public PlatformPost publishPost(PlatformPost platformPost, List<MediaAttachment> attachments) {
+        try {
+            rateLimiter.acquire(getPlatformType(), platformPost.getSocialAccount());
+        } catch (RateLimitExceededException e) {
+            return markRateLimited(platformPost, e);
+        }
+        return delegate.publishPost(platformPost, attachments);
+    }
+
+    @Override
+    public boolean deletePost(PlatformPost platformPost) {
+        rateLimiter.acquire(getPlatformType(), platformPost.getSocialAccount());
+        return delegate.deletePost(platformPost);
+    }
+
+    @Override
+    public CompletableFuture<SocialAccount> refreshTokenAsync(SocialAccount socialAccount) {
+        return afterPermit(socialAccount, () -> asyncDelegate.refreshTokenAsync(socialAccount));
+    }
+
+    @Override
+    public CompletableFuture<PlatformPost> publishPostAsync(PlatformPost platformPost, List<MediaAttachment> attachments) {
+        return publishPostAsync(platformPost, attachments, () -> true);
+    }
+
+    /**
+     * Publish once a permit is available. The platform provider asks {@code beforeSend} right before
+     * the post leaves; if it answers false the post is not sent and the returned future fails with a
+     * {@link CancellationException}. Cancelling the returned future while the call waits for its
+     * permit also means the post is never sent.
+     */
+    @Override
+    public CompletableFuture<PlatformPost> publishPostAsync(PlatformPost platformPost, List<MediaAttachment> attachments,
+                                                            BooleanSupplier beforeSend) {
+        try {
+            return afterPermit(platformPost.getSocialAccount(),
+                    () -> asyncDelegate.publishPostAsync(platformPost, attachments, beforeSend));
+        } catch (RateLimitExceededException e) {
+            return CompletableFuture.completedFuture(markRateLimited(platformPost, e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deletePostAsync(PlatformPost platformPost) {
+        return afterPermit(platformPost.getSocialAccount(), () -> asyncDelegate.deletePostAsync(platformPost));
+    }
+
+    /**
+     * Reserve a permit now and start the call once it becomes valid.
+     * Cancelling the returned future cancels the call, or prevents it if it has not started yet.
+     *
+     * @throws RateLimitExceededException if the wait would exceed the configured maximum
+     */
+    private <T> CompletableFuture<T> afterPermit(SocialAccount account, Supplier<CompletableFuture<T>> call) {
+        long waitNanos = rateLimiter.reserve(getPlatformType(), account);
+        if (waitNanos <= 0) {
+            return call.get();
+        }
+        Executor delayed = CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS);
+        return Futures.thenCompose(CompletableFuture.runAsync(() -> { }, delayed), ignored -> call.get());
+    }
+
+    private static PlatformPost markRateLimited(PlatformPost platformPost, RateLimitExceededException e) {
+        // Same contract as the providers: publishing failures are reported on the post, not thrown
+        platformPost.setStatus(PostStatus.FAILED);
+        platformPost.setErrorMessage(e.getMessage());
+        platformPost.setLastErrorClass(e.getClass().getName());
+        return platformPost;
+    }
+}
@@ -1,18 +1,42 @@
 package com.schedulify.backend.service.socialmedia;
 
+import com.schedulify.backend.exception.CircuitOpenException;
+import com.schedulify.backend.exception.PublishOutcomeUnknownException;
 import com.schedulify.backend.model.entity.MediaAttachment;
 import com.schedulify.backend.model.entity.PlatformPost;
 import com.schedulify.backend.model.entity.Post;
 import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.model.enums.MediaType;
 import com.schedulify.backend.model.enums.Platform;
 import com.schedulify.backend.model.enums.PostStatus;
+import com.schedulify.backend.repository.SocialAccountRepository;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Service for managing social media integrations across all platforms.
@@ -21,12 +45,53 @@ import java.util.stream.Collectors;
 @Service
 public class SocialMediaIntegrationService {
     
+    private static final Logger logger = LoggerFactory.getLogger(SocialMediaIntegrationService.class);
+
     private final Map<Platform, SocialMediaProvider> providers;
+    private final Map<Platform, RateLimitedSocialMediaProvider> asyncProviders;
+    private final PlatformCircuitBreakers circuitBreakers;
+    private final ThreadPoolTaskExecutor publishExecutor;
+    private final boolean parallelPublishing;
+    private final Map<Platform, Long> publishTimeouts = new EnumMap<>(Platform.class);
+    private final Map<Platform, Long> videoPublishTimeouts = new EnumMap<>(Platform.class);
+    private final SocialAccountRepository socialAccountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, CompletableFuture<SocialAccount>> refreshesInFlight = new ConcurrentHashMap<>();
     
-    public SocialMediaIntegrationService(List<SocialMediaProvider> providerList) {
-        // Create a map of providers by platform type for easy lookup
+    public SocialMediaIntegrationService(
+            List<SocialMediaProvider> providerList,
+            ProviderRateLimiter rateLimiter,
+            PlatformCircuitBreakers circuitBreakers,
+            @Qualifier("publishExecutor") ThreadPoolTaskExecutor publishExecutor,
+            SocialAccountRepository socialAccountRepository,
+            PlatformTransactionManager transactionManager,
+            Environment environment,
+            @Value("${social.publish.parallel:true}") boolean parallelPublishing,
+            @Value("${social.publish.timeout:20000}") long defaultTimeoutMillis,
+            @Value("${social.publish.video-timeout:300000}") long defaultVideoTimeoutMillis) {
+        // Create a map of providers by platform type for easy lookup, rate limited per account
         providers = new HashMap<>();
-        providerList.forEach(provider -> providers.put(provider.getPlatformType(), provider));
+        asyncProviders = new HashMap<>();
+        providerList.forEach(provider -> {
+            RateLimitedSocialMediaProvider rateLimited =
+                    new RateLimitedSocialMediaProvider(provider, rateLimiter, publishExecutor);
+            providers.put(provider.getPlatformType(), rateLimited);
+            asyncProviders.put(provider.getPlatformType(), rateLimited);
+        });
+
+        this.circuitBreakers = circuitBreakers;
+        this.publishExecutor = publishExecutor;
+        this.socialAccountRepository = socialAccountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.parallelPublishing = parallelPublishing;
+        // Per-platform deadlines, e.g. social.facebook.publish-timeout=15000
+        for (Platform platform : Platform.values()) {
+            publishTimeouts.put(platform, environment.getProperty(
+                    "social." + platform.name().toLowerCase() + ".publish-timeout", Long.class, defaultTimeoutMillis));
+            // Video uploads stream the whole file, e.g. social.facebook.video-publish-timeout=300000
+            videoPublishTimeouts.put(platform, environment.getProperty(
+                    "social." + platform.name().toLowerCase() + ".video-publish-timeout", Long.class, defaultVideoTimeoutMillis));
+        }
     }
     
     /**
@@ -52,11 +117,26 @@ public class SocialMediaIntegrationService {
     }
     
     /**
-     * Refresh a social account token.
+     * Refresh a social account token and store it.
+     * <p>
+     * Concurrent refreshes of the same account share a single call to the platform: callers arriving
+     * while a refresh is in flight wait for it instead of starting their own. The new token is stored
+     * once, only if the account still has the token that was refreshed; otherwise the token stored in
+     * the meantime wins. The given account is updated with the resulting token either way.
      */
     public SocialAccount refreshToken(SocialAccount socialAccount) {
-        SocialMediaProvider provider = getProviderOrThrow(socialAccount.getPlatform());
-        return provider.refreshToken(socialAccount);
+        CompletableFuture<SocialAccount> refresh = refreshTokenAsync(socialAccount);
+        try {
+            return refresh.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while refreshing token of account " + socialAccount.getId(), e);
+        }
     }
     
     /**
@@ -67,6 +147,90 @@ public class SocialMediaIntegrationService {
         return provider.publishPost(platformPost, attachments);
     }
     
+    /**
+     * Publish a post to a specific platform without blocking the calling thread.
+     */
+    public CompletableFuture<PlatformPost> publishPostAsync(PlatformPost platformPost, List<MediaAttachment> attachments) {
+        return getAsyncProviderOrThrow(platformPost.getPlatform()).publishPostAsync(platformPost, attachments);
+    }
+    
+    /**
+     * Non-blocking variant of {@link #refreshToken}.
+     */
+    public CompletableFuture<SocialAccount> refreshTokenAsync(SocialAccount socialAccount) {
+        Long accountId = socialAccount.getId();
+        CompletableFuture<SocialAccount> started = new CompletableFuture<>();
+        CompletableFuture<SocialAccount> flight = refreshesInFlight.putIfAbsent(accountId, started);
+        if (flight == null) {
+            flight = started;
+            startRefresh(socialAccount).whenComplete((refreshed, error) -> {
+                refreshesInFlight.remove(accountId, started);
+                if (error != null) {
+                    started.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                } else {
+                    started.complete(refreshed);
+                }
+            });
+        }
+        return flight.thenApply(refreshed -> {
+            socialAccount.setAccessToken(refreshed.getAccessToken());
+            socialAccount.setRefreshToken(refreshed.getRefreshToken());
+            socialAccount.setTokenExpiryDate(refreshed.getTokenExpiryDate());
+            socialAccount.setTokenRefreshFailures(0);
+            socialAccount.setLastRefreshError(null);
+            socialAccount.setNextRefreshAt(null);
+            return socialAccount;
+        });
+    }
+
+    private CompletableFuture<SocialAccount> startRefresh(SocialAccount socialAccount) {
+        // The provider works on a copy, so callers sharing the flight never see each other's entities
+        SocialAccount copy = tokenCopyOf(socialAccount);
+        String previousAccessToken = socialAccount.getAccessToken();
+        CompletableFuture<SocialAccount> flight;
+        try {
+            flight = getAsyncProviderOrThrow(socialAccount.getPlatform()).refreshTokenAsync(copy)
+                    .thenApplyAsync(refreshed -> storeToken(previousAccessToken, refreshed), publishExecutor);
+        } catch (RuntimeException e) {
+            flight = CompletableFuture.failedFuture(e);
+        }
+        return flight;
+    }
+
+    private SocialAccount storeToken(String previousAccessToken, SocialAccount refreshed) {
+        Integer stored = transactionTemplate.execute(status -> socialAccountRepository.replaceToken(
+                refreshed.getId(), previousAccessToken, refreshed.getAccessToken(), refreshed.getRefreshToken(),
+                refreshed.getTokenExpiryDate(), LocalDateTime.now()));
+        if (stored != null && stored > 0) {
+            return refreshed;
+        }
+        // Re-authenticated or refreshed elsewhere in the meantime: keep the stored token
+        logger.info("Token of account {} changed during refresh, keeping the stored token", refreshed.getId());
+        return transactionTemplate.execute(status -> socialAccountRepository.findById(refreshed.getId())
+                .map(SocialMediaIntegrationService::tokenCopyOf)
+                .orElse(refreshed));
+    }
+
+    private static SocialAccount tokenCopyOf(SocialAccount account) {
+        SocialAccount copy = new SocialAccount();
+        copy.setId(account.getId());
+        copy.setPlatform(account.getPlatform());
+        copy.setAccountId(account.getAccountId());
+        copy.setAccountName(account.getAccountName());
+        copy.setAccessToken(account.getAccessToken());
+        copy.setRefreshToken(account.getRefreshToken());
+        copy.setTokenExpiryDate(account.getTokenExpiryDate());
+        return copy;
+    }
+    
+    /**
+     * Delete a post from a specific platform without blocking the calling thread.
+     */
+    public CompletableFuture<Boolean> deletePostAsync(PlatformPost platformPost) {
+        return getAsyncProviderOrThrow(platformPost.getPlatform()).deletePostAsync(platformPost);
+    }
+    
     /**
      * Delete a post from a specific platform.
      */
@@ -111,24 +275,156 @@ public class SocialMediaIntegrationService {
     
     /**
      * Publish a post to multiple platforms.
+     * In parallel mode every platform is published concurrently and bounded by its own deadline,
+     * so the call takes about as long as the slowest platform rather than the sum of all of them.
+     * Platforms that miss their deadline are recorded as FAILED and their call is cancelled; one
+     * that was already sent is recorded as an unknown outcome and not retried automatically.
+     * <p>
+     * Calls to a platform whose circuit breaker is open are not made at all; the platform post is
+     * failed immediately with a retryable {@link CircuitOpenException} so the retry scheduler picks
+     * it up once the circuit lets calls through again.
      */
     public List<PlatformPost> publishToMultiplePlatforms(Post post, List<PlatformPost> platformPosts, List<MediaAttachment> attachments) {
-        return platformPosts.stream()
-            .map(platformPost -> {
-                try {
-                    SocialMediaProvider provider = getProviderOrThrow(platformPost.getPlatform());
-                    return provider.publishPost(platformPost, attachments);
-                } catch (Exception e) {
-                    platformPost.setStatus(PostStatus.FAILED);
-                    platformPost.setErrorMessage(e.getMessage());
-                    return platformPost;
-                }
-            })
-            .collect(Collectors.toList());
+        if (!parallelPublishing) {
+            return publishSequentially(platformPosts, attachments);
+        }
+        // Bounded by the per-platform deadlines, so this wait always ends
+        return publishToMultiplePlatformsAsync(post, platformPosts, attachments).join();
+    }
+
+    /**
+     * Non-blocking variant of {@link #publishToMultiplePlatforms}.
+     * <p>
+     * Must be called on a thread that may touch the persistence context (lazy state is resolved
+     * before any remote call starts). The outcomes are applied to the given platform posts when the
+     * returned future completes, which may happen on an HTTP I/O thread.
+     */
+    public CompletableFuture<List<PlatformPost>> publishToMultiplePlatformsAsync(Post post, List<PlatformPost> platformPosts, List<MediaAttachment> attachments) {
+        // Resolve lazy state on the calling thread; other threads must not touch the persistence context
+        List<MediaAttachment> attachmentSnapshot = List.copyOf(attachments);
+        boolean hasVideo = attachmentSnapshot.stream().anyMatch(attachment -> attachment.getMediaType() == MediaType.VIDEO);
+        List<CompletableFuture<Void>> calls = new ArrayList<>(platformPosts.size());
+        for (PlatformPost platformPost : platformPosts) {
+            Hibernate.initialize(platformPost.getSocialAccount());
+            Hibernate.initialize(platformPost.getPost());
+            if (!acquireCircuit(platformPost)) {
+                continue;
+            }
+
+            long timeoutMillis = (hasVideo ? videoPublishTimeouts : publishTimeouts).get(platformPost.getPlatform());
+            calls.add(publishWithDeadline(platformPost, attachmentSnapshot, timeoutMillis));
+        }
+        return CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> platformPosts);
+    }
+
+    /**
+     * Publish a copy of the platform post and apply the outcome to it once known.
+     * <p>
+     * When the deadline expires the provider call is cancelled, which aborts its HTTP exchange. If
+     * the post had not been sent yet (it was still waiting for a rate limit permit, for its photos
+     * to upload or for its Graph batch to be flushed) the attempt fails with a retryable timeout. Otherwise the platform may have published
+     * it already, so it fails with {@link PublishOutcomeUnknownException} and is not retried.
+     */
+    private CompletableFuture<Void> publishWithDeadline(PlatformPost platformPost, List<MediaAttachment> attachments,
+                                                        long timeoutMillis) {
+        PlatformPost attempt = platformPost.copyForPublishing();
+        AtomicReference<Dispatch> dispatch = new AtomicReference<>(Dispatch.PENDING);
+        CompletableFuture<PlatformPost> call;
+        try {
+            // Asked when the post leaves, which may be well after this call (e.g. in a Graph batch),
+            // and again if the platform rejected it and it is sent a second time
+            call = getAsyncProviderOrThrow(platformPost.getPlatform()).publishPostAsync(attempt, attachments,
+                    () -> dispatch.updateAndGet(state -> state == Dispatch.PENDING ? Dispatch.SENT : state) == Dispatch.SENT);
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<PlatformPost> provider = call;
+        // orTimeout on a copy: the copy's timer is cancelled as soon as the call completes
+        provider.copy()
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((outcome, error) -> {
+                    if (error instanceof TimeoutException) {
+                        dispatch.getAndUpdate(state -> state == Dispatch.PENDING ? Dispatch.EXPIRED : Dispatch.EXPIRED_AFTER_SEND);
+                        provider.cancel(true);
+                    }
+                });
+        return provider.handle((outcome, error) -> {
+            recordOutcome(platformPost, outcome, error, dispatch.get(), timeoutMillis);
+            return null;
+        });
+    }
+
+    private void recordOutcome(PlatformPost platformPost, PlatformPost outcome, Throwable error,
+                               Dispatch dispatch, long timeoutMillis) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause == null) {
+            platformPost.applyOutcome(outcome);
+            circuitBreakers.record(platformPost);
+            return;
+        }
+        if (cause instanceof CancellationException && dispatch == Dispatch.EXPIRED) {
+            logger.warn("Publishing to {} timed out after {} ms before the post was sent",
+                    platformPost.getPlatform(), timeoutMillis);
+            String reason = "Timed out after " + timeoutMillis + " ms before sending";
+            markFailed(platformPost, reason, new TimeoutException(reason));
+        } else if (cause instanceof CancellationException && dispatch == Dispatch.EXPIRED_AFTER_SEND) {
+            logger.warn("Publishing to {} timed out after {} ms, the post may have been published",
+                    platformPost.getPlatform(), timeoutMillis);
+            String reason = "No answer within " + timeoutMillis + " ms, the post may have been published";
+            markFailed(platformPost, reason, new PublishOutcomeUnknownException(reason));
+        } else if (cause instanceof RejectedExecutionException) {
+            markFailed(platformPost, "Publishing rejected: " + cause.getMessage(), cause);
+        } else {
+            markFailed(platformPost, cause.getMessage(), cause);
+        }
+        circuitBreakers.record(platformPost);
+    }
+
+    private List<PlatformPost> publishSequentially(List<PlatformPost> platformPosts, List<MediaAttachment> attachments) {
+        List<MediaAttachment> attachmentSnapshot = List.copyOf(attachments);
+        boolean hasVideo = attachmentSnapshot.stream().anyMatch(attachment -> attachment.getMediaType() == MediaType.VIDEO);
+        for (PlatformPost platformPost : platformPosts) {
+            if (!acquireCircuit(platformPost)) {
+                continue;
+            }
+            // Same deadline and outcome rules as parallel publishing, one platform at a time
+            long timeoutMillis = (hasVideo ? videoPublishTimeouts : publishTimeouts).get(platformPost.getPlatform());
+            publishWithDeadline(platformPost, attachmentSnapshot, timeoutMillis).join();
+        }
+        return platformPosts;
+    }
+
+    private boolean acquireCircuit(PlatformPost platformPost) {
+        if (circuitBreakers.tryAcquire(platformPost.getPlatform())) {
+            return true;
+        }
+        String reason = "Circuit open for " + platformPost.getPlatform() + ", publishing deferred";
+        markFailed(platformPost, reason, new CircuitOpenException(reason));
+        return false;
+    }
+
+    private void markFailed(PlatformPost platformPost, String reason, Throwable error) {
+        platformPost.setStatus(PostStatus.FAILED);
+        platformPost.setErrorMessage(reason);
+        platformPost.setLastErrorClass(PublishErrorClassifier.errorClassOf(error));
+    }
+    
+    private RateLimitedSocialMediaProvider getAsyncProviderOrThrow(Platform platform) {
+        return Optional.ofNullable(asyncProviders.get(platform))
+            .orElseThrow(() -> new IllegalArgumentException("No provider available for platform: " + platform));
     }
     
     private SocialMediaProvider getProviderOrThrow(Platform platform) {
         return getProvider(platform)
             .orElseThrow(() -> new IllegalArgumentException("No provider available for platform: " + platform));
     }
-} 
\ No newline at end of file
+
+    /**
+     * How far a publish call got before its deadline.
+     */
+    private enum Dispatch {
+        PENDING, SENT, EXPIRED, EXPIRED_AFTER_SEND
+    }
+}
@@ -0,0 +1,62 @@
+package com.schedulify.backend.service.socialmedia;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket.
+ * <p>
+ * Uses the GCRA formulation: instead of counting tokens the bucket keeps a single "theoretical
+ * arrival time" that advances by one emission interval per permit, updated with a CAS. A caller
+ * reserves a permit and is told how long to wait before using it, so bursts are smoothed into
+ * delays rather than failures.
+ */
+public final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long capacityNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param permitsPerSecond Sustained rate
+     * @param burst            Number of permits that may be taken back to back when the bucket is full
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.capacityNanos = emissionIntervalNanos * burst;
+        this.nanoClock = nanoClock;
+        this.theoreticalArrival = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Reserve one permit.
+     *
+     * @param maxWaitNanos Longest delay the caller accepts
+     * @return Nanoseconds to wait before the permit may be used, or -1 if that would exceed {@code maxWaitNanos}
+     *         (in which case nothing is reserved)
+     */
+    public long reserve(long maxWaitNanos) {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long tat = theoreticalArrival.get();
+            long start = tat - now < 0 ? now : tat;
+            long next = start + emissionIntervalNanos;
+            long wait = next - now - capacityNanos;
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return Math.max(0, wait);
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.schedulify.backend.service.socialmedia.graph;
+
+/**
+ * Response of the Graph API {@code /me?fields=id,name} call.
+ */
+public record GraphAccountResponse(String id, String name) {
+}
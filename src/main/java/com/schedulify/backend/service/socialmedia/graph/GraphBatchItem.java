@@ -0,0 +1,10 @@
+package com.schedulify.backend.service.socialmedia.graph;
+
+/**
+ * One operation's result inside a Graph API batch response.
+ *
+ * @param code HTTP status code of the operation
+ * @param body Raw JSON body of the operation, still to be parsed
+ */
+public record GraphBatchItem(int code, String body) {
+}
@@ -0,0 +1,13 @@
+package com.schedulify.backend.service.socialmedia.graph;
+
+/**
+ * The {@code error} object of a failed Graph API call.
+ *
+ * @param message      Human readable message
+ * @param type         Error type, e.g. {@code OAuthException}
+ * @param code         Graph error code
+ * @param errorSubcode Graph error subcode, if any
+ * @param fbtraceId    Trace ID to quote to Facebook support
+ */
+public record GraphError(String message, String type, int code, Integer errorSubcode, String fbtraceId) {
+}
@@ -0,0 +1,10 @@
+package com.schedulify.backend.service.socialmedia.graph;
+
+/**
+ * Response of a Graph API publish call ({@code /{page}/feed}, {@code /{page}/photos}, ...).
+ *
+ * @param id     ID of the created object
+ * @param postId ID of the resulting feed post, if it differs from {@code id} (photos, videos)
+ */
+public record GraphPostResponse(String id, String postId) {
+}
@@ -0,0 +1,232 @@
+package com.schedulify.backend.service.socialmedia.graph;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.schedulify.backend.exception.FacebookGraphException;
+import com.schedulify.backend.service.socialmedia.AsyncHttpFormClient;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming parsers for the Graph API responses we consume.
+ * <p>
+ * Each parser pulls only the fields it needs straight from the token stream and skips everything
+ * else, instead of binding the whole body into a {@code Map} tree and casting values out of it.
+ * Numbers are read with {@link JsonParser#getValueAsLong()}, so an {@code expires_in} that arrives
+ * as an int, a long or a string is handled the same way.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GraphResponseParser {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    public static GraphPostResponse readPost(byte[] body) throws IOException {
+        String id = null;
+        String postId = null;
+        try (JsonParser parser = objectParser(body)) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "id" -> id = parser.getValueAsString();
+                    case "post_id" -> postId = parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new GraphPostResponse(id, postId);
+    }
+
+    public static GraphTokenResponse readToken(byte[] body) throws IOException {
+        String accessToken = null;
+        String tokenType = null;
+        Long expiresIn = null;
+        try (JsonParser parser = objectParser(body)) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "access_token" -> accessToken = parser.getValueAsString();
+                    case "token_type" -> tokenType = parser.getValueAsString();
+                    case "expires_in" -> expiresIn = parser.currentToken() == JsonToken.VALUE_NULL
+                            ? null : parser.getValueAsLong();
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new GraphTokenResponse(accessToken, tokenType, expiresIn);
+    }
+
+    public static GraphAccountResponse readAccount(byte[] body) throws IOException {
+        String id = null;
+        String name = null;
+        try (JsonParser parser = objectParser(body)) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "id" -> id = parser.getValueAsString();
+                    case "name" -> name = parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new GraphAccountResponse(id, name);
+    }
+
+    /**
+     * Read the offsets (and, for the {@code start} phase, the session) of a video upload response.
+     * Graph returns the offsets as strings.
+     */
+    public static GraphUploadSession readUploadSession(byte[] body) throws IOException {
+        String sessionId = null;
+        String videoId = null;
+        long startOffset = 0;
+        long endOffset = 0;
+        try (JsonParser parser = objectParser(body)) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "upload_session_id" -> sessionId = parser.getValueAsString();
+                    case "video_id" -> videoId = parser.getValueAsString();
+                    case "start_offset" -> startOffset = parser.getValueAsLong();
+                    case "end_offset" -> endOffset = parser.getValueAsLong();
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new GraphUploadSession(sessionId, videoId, startOffset, endOffset);
+    }
+
+    /**
+     * Read a {@code {"success": true}} style response; an empty body counts as success.
+     */
+    public static boolean readSuccess(byte[] body) throws IOException {
+        if (body.length == 0) {
+            return true;
+        }
+        boolean success = false;
+        try (JsonParser parser = JSON.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_TRUE) {
+                return true;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("success".equals(field)) {
+                    success = parser.getValueAsBoolean();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return success;
+    }
+
+    /**
+     * Read a batch response. Operations Graph did not process are returned as null entries.
+     */
+    public static List<GraphBatchItem> readBatch(byte[] body) throws IOException {
+        List<GraphBatchItem> items = new ArrayList<>();
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a Graph batch array");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_NULL) {
+                    items.add(null);
+                    continue;
+                }
+                int code = 500;
+                String itemBody = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "code" -> code = parser.getValueAsInt(500);
+                        case "body" -> itemBody = parser.getValueAsString();
+                        default -> parser.skipChildren();
+                    }
+                }
+                items.add(new GraphBatchItem(code, itemBody));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Read the {@code error} object of an error response, or null if there is none.
+     */
+    public static GraphError readError(byte[] body) throws IOException {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try (JsonParser parser = objectParser(body)) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_OBJECT && "error".equals(field)) {
+                    return readErrorObject(parser);
+                }
+                parser.skipChildren();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Turn a Graph error response into a {@link FacebookGraphException} whose cause is the
+     * exception RestTemplate would have thrown for the same status.
+     * Suitable as an {@link AsyncHttpFormClient.ErrorTranslator}.
+     */
+    public static RuntimeException toException(int status, byte[] body) {
+        GraphError error;
+        try {
+            error = readError(body);
+        } catch (IOException e) {
+            error = null;
+        }
+        return new FacebookGraphException(status, error, AsyncHttpFormClient.httpError(status, body));
+    }
+
+    private static GraphError readErrorObject(JsonParser parser) throws IOException {
+        String message = null;
+        String type = null;
+        int code = 0;
+        Integer subcode = null;
+        String traceId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "message" -> message = parser.getValueAsString();
+                case "type" -> type = parser.getValueAsString();
+                case "code" -> code = parser.getValueAsInt();
+                case "error_subcode" -> subcode = parser.getValueAsInt();
+                case "fbtrace_id" -> traceId = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return new GraphError(message, type, code, subcode, traceId);
+    }
+
+    private static JsonParser objectParser(byte[] body) throws IOException {
+        JsonParser parser = JSON.createParser(body);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            parser.close();
+            throw new JsonParseException(parser, "Expected a JSON object");
+        }
+        return parser;
+    }
+}
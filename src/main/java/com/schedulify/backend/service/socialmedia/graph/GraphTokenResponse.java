@@ -0,0 +1,11 @@
+package com.schedulify.backend.service.socialmedia.graph;
+
+/**
+ * Response of the Graph API {@code oauth/access_token} endpoint.
+ *
+ * @param accessToken The issued token
+ * @param tokenType   Token type, usually {@code bearer}
+ * @param expiresIn   Lifetime in seconds, or null if the token does not expire
+ */
+public record GraphTokenResponse(String accessToken, String tokenType, Long expiresIn) {
+}
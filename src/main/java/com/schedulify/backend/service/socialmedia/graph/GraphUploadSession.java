@@ -0,0 +1,19 @@
+package com.schedulify.backend.service.socialmedia.graph;
+
+/**
+ * Response of the {@code start} and {@code transfer} phases of a resumable video upload.
+ * <p>
+ * {@code [startOffset, endOffset)} is the next byte range Graph expects; the upload is complete
+ * once both are equal. The session and video IDs are only returned by the {@code start} phase.
+ *
+ * @param uploadSessionId Upload session, null for {@code transfer} responses
+ * @param videoId         ID the video will have once published, null for {@code transfer} responses
+ * @param startOffset     First byte of the next chunk
+ * @param endOffset       End (exclusive) of the next chunk
+ */
+public record GraphUploadSession(String uploadSessionId, String videoId, long startOffset, long endOffset) {
+
+    public boolean isComplete() {
+        return startOffset >= endOffset;
+    }
+}
@@ -0,0 +1,49 @@
+package com.schedulify.backend.service.user;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.function.Supplier;
+
+/**
+ * Memoizes values for the duration of the current web request, in its request attributes.
+ * Outside a request (scheduled jobs, async callbacks) nothing is memoized.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RequestMemo {
+
+    private static final String PREFIX = RequestMemo.class.getName() + ".";
+
+    /**
+     * Value memoized under the key in this request, computing it on first use.
+     * Null values are not memoized.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T computeIfAbsent(String key, Supplier<T> supplier) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return supplier.get();
+        }
+        String name = PREFIX + key;
+        Object value = attributes.getAttribute(name, RequestAttributes.SCOPE_REQUEST);
+        if (value == null) {
+            value = supplier.get();
+            if (value != null) {
+                attributes.setAttribute(name, value, RequestAttributes.SCOPE_REQUEST);
+            }
+        }
+        return (T) value;
+    }
+
+    /**
+     * Forget a memoized value of the current request.
+     */
+    public static void remove(String key) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(PREFIX + key, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.schedulify.backend.service.user;
+
+import com.schedulify.backend.model.entity.Role;
+import com.schedulify.backend.model.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener evicting cached identities when users or roles change.
+ * Instantiated through Spring by Hibernate, so it receives the shared cache.
+ */
+@Component
+public class UserCacheInvalidator {
+
+    private final UserIdentityCache userIdentityCache;
+
+    public UserCacheInvalidator(UserIdentityCache userIdentityCache) {
+        this.userIdentityCache = userIdentityCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof User user) {
+            // By ID, so a changed email does not leave the old entry behind
+            userIdentityCache.invalidate(user.getId());
+        } else if (entity instanceof Role) {
+            userIdentityCache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.schedulify.backend.service.user;
+
+import com.schedulify.backend.model.entity.Role;
+import com.schedulify.backend.model.entity.User;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of a user's identity and roles, safe to share between requests.
+ */
+public record UserIdentity(Long id,
+                           String email,
+                           String fullName,
+                           String profileImageUrl,
+                           List<Role.RoleType> roles,
+                           boolean active,
+                           boolean accountNonExpired,
+                           boolean accountNonLocked,
+                           boolean credentialsNonExpired) {
+
+    public static UserIdentity from(User user) {
+        return new UserIdentity(user.getId(), user.getEmail(), user.getFullName(), user.getProfileImageUrl(),
+                user.getRoles().stream().map(Role::getName).toList(),
+                user.isActive(), user.isAccountNonExpired(), user.isAccountNonLocked(), user.isCredentialsNonExpired());
+    }
+
+    /**
+     * A new detached {@link User} with this identity. It can be used as a query parameter or an
+     * association target, but must not be saved: it carries no password and no social accounts.
+     */
+    public User toUser() {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setFullName(fullName);
+        user.setProfileImageUrl(profileImageUrl);
+        user.setActive(active);
+        user.setAccountNonExpired(accountNonExpired);
+        user.setAccountNonLocked(accountNonLocked);
+        user.setCredentialsNonExpired(credentialsNonExpired);
+        roles.forEach(role -> {
+            Role snapshot = new Role();
+            snapshot.setName(role);
+            user.getRoles().add(snapshot);
+        });
+        return user;
+    }
+}
@@ -0,0 +1,125 @@
+package com.schedulify.backend.service.user;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, expiring cache of user identities by email, shared across requests.
+ * <p>
+ * Holds at most {@code security.user-cache.max-size} entries (least recently used are dropped) for
+ * at most {@code security.user-cache.ttl}. Entries are invalidated when a user or role changes, see
+ * {@link UserCacheInvalidator}; inside a transaction the invalidation is repeated after commit, and
+ * a lookup that started before an invalidation never stores its (possibly stale) result.
+ */
+@Component
+public class UserIdentityCache {
+
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Counter hits;
+    private final Counter misses;
+    private final Map<String, Entry> entries;
+    private final LongSupplier nanoClock;
+
+    private long generation;
+
+    @Autowired
+    public UserIdentityCache(MeterRegistry meterRegistry,
+                             @Value("${security.user-cache.ttl:300000}") long ttlMillis,
+                             @Value("${security.user-cache.max-size:10000}") int maxSize) {
+        this(meterRegistry, ttlMillis, maxSize, System::nanoTime);
+    }
+
+    UserIdentityCache(MeterRegistry meterRegistry, long ttlMillis, int maxSize, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.ttlNanos = Duration.ofMillis(ttlMillis).toNanos();
+        this.maxSize = maxSize;
+        this.hits = meterRegistry.counter("schedulify.user-cache.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("schedulify.user-cache.lookups", "result", "miss");
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > UserIdentityCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Cached identity for the email, loading and caching it on a miss.
+     *
+     * @param loader Loads the identity from the database; called without holding the cache lock
+     */
+    public Optional<UserIdentity> get(String email, Supplier<Optional<UserIdentity>> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(email);
+            if (entry != null && entry.expiresAt - nanoClock.getAsLong() > 0) {
+                hits.increment();
+                return Optional.of(entry.identity);
+            }
+            if (entry != null) {
+                entries.remove(email);
+            }
+            loadGeneration = generation;
+        }
+
+        misses.increment();
+        Optional<UserIdentity> loaded = loader.get();
+        loaded.ifPresent(identity -> {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    entries.put(email, new Entry(identity, nanoClock.getAsLong() + ttlNanos));
+                }
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * Drop the entry of one user.
+     */
+    public void invalidate(Long userId) {
+        evict(() -> entries.values().removeIf(entry -> entry.identity.id().equals(userId)));
+    }
+
+    /**
+     * Drop every entry, e.g. after a role changed.
+     */
+    public void invalidateAll() {
+        evict(entries::clear);
+    }
+
+    private void evict(Runnable eviction) {
+        synchronized (this) {
+            generation++;
+            eviction.run();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Readers may cache the old row again until the change is committed
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    synchronized (UserIdentityCache.this) {
+                        generation++;
+                        eviction.run();
+                    }
+                }
+            });
+        }
+    }
+
+    private record Entry(UserIdentity identity, long expiresAt) {
+    }
+}
@@ -19,7 +19,7 @@ public final class AppConstants {
     // Authentication
     public static final String TOKEN_PREFIX = "Bearer ";
     public static final String HEADER_STRING = "Authorization";
-    public static final long ACCESS_TOKEN_VALIDITY_SECONDS = 24 * 60 * 60; // 24 hours
+    public static final long ACCESS_TOKEN_VALIDITY_SECONDS = 15 * 60; // 15 minutes
     public static final long REFRESH_TOKEN_VALIDITY_SECONDS = 7 * 24 * 60 * 60; // 7 days
 
     // User Roles
@@ -0,0 +1,44 @@
+-- Schema added on top of the baseline: claiming, retries, token refresh tracking and the media upload cache.
+-- Databases created by ddl-auto while these changes were in progress may already have some of it.
+
+-- PostStatus.PUBLISHING: ddl-auto never updates the CHECK constraints it generated
+ALTER TABLE posts DROP CONSTRAINT IF EXISTS posts_status_check;
+ALTER TABLE posts ADD CONSTRAINT posts_status_check
+    CHECK (status IN ('DRAFT', 'SCHEDULED', 'PUBLISHING', 'PUBLISHED', 'FAILED', 'CANCELED'));
+ALTER TABLE platform_posts DROP CONSTRAINT IF EXISTS platform_posts_status_check;
+ALTER TABLE platform_posts ADD CONSTRAINT platform_posts_status_check
+    CHECK (status IN ('DRAFT', 'SCHEDULED', 'PUBLISHING', 'PUBLISHED', 'FAILED', 'CANCELED'));
+
+-- Post.claimedAt
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS claimed_at TIMESTAMP(6);
+
+-- PlatformPost retry state
+ALTER TABLE platform_posts ADD COLUMN IF NOT EXISTS attempt_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE platform_posts ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP(6);
+ALTER TABLE platform_posts ADD COLUMN IF NOT EXISTS last_error_class VARCHAR(255);
+ALTER TABLE platform_posts ADD COLUMN IF NOT EXISTS claimed_at TIMESTAMP(6);
+
+-- SocialAccount token refresh state
+ALTER TABLE social_accounts ADD COLUMN IF NOT EXISTS token_refresh_failures INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE social_accounts ADD COLUMN IF NOT EXISTS last_refresh_error VARCHAR(1000);
+ALTER TABLE social_accounts ADD COLUMN IF NOT EXISTS next_refresh_at TIMESTAMP(6);
+
+-- MediaAttachment.contentHash
+ALTER TABLE media_attachments ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+-- Platform media IDs of uploaded content (MediaUpload)
+CREATE TABLE IF NOT EXISTS media_uploads (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content_hash      VARCHAR(64)  NOT NULL,
+    social_account_id BIGINT       NOT NULL REFERENCES social_accounts (id),
+    platform          VARCHAR(255) NOT NULL
+        CHECK (platform IN ('FACEBOOK', 'INSTAGRAM', 'TIKTOK', 'ZALO', 'TWITTER', 'LINKEDIN', 'YOUTUBE')),
+    media_id          VARCHAR(255) NOT NULL,
+    expires_at        TIMESTAMP(6) NOT NULL,
+    is_active         BOOLEAN      NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL,
+    created_by        VARCHAR(255),
+    updated_by        VARCHAR(255),
+    CONSTRAINT uk_media_uploads_content_account_platform UNIQUE (content_hash, social_account_id, platform)
+);
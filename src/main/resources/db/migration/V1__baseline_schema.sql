@@ -0,0 +1,109 @@
+-- Schema as previously created by Hibernate (ddl-auto: update), before the migrations existed.
+-- Existing databases are baselined at this version and only receive later migrations.
+
+CREATE TABLE users (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email                   VARCHAR(255) NOT NULL,
+    password                VARCHAR(255) NOT NULL,
+    full_name               VARCHAR(255) NOT NULL,
+    profile_image_url       VARCHAR(255),
+    account_non_expired     BOOLEAN      NOT NULL,
+    account_non_locked      BOOLEAN      NOT NULL,
+    credentials_non_expired BOOLEAN      NOT NULL,
+    is_active               BOOLEAN      NOT NULL,
+    created_at              TIMESTAMP(6) NOT NULL,
+    updated_at              TIMESTAMP(6) NOT NULL,
+    created_by              VARCHAR(255),
+    updated_by              VARCHAR(255),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE roles (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL
+        CHECK (name IN ('ROLE_ADMIN', 'ROLE_CONTENT_MANAGER', 'ROLE_SOCIAL_MEDIA_MANAGER', 'ROLE_USER')),
+    description VARCHAR(255),
+    CONSTRAINT uk_roles_name UNIQUE (name)
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    role_id BIGINT NOT NULL REFERENCES roles (id),
+    PRIMARY KEY (role_id, user_id)
+);
+
+CREATE TABLE social_accounts (
+    id                     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id                BIGINT        NOT NULL REFERENCES users (id),
+    platform               VARCHAR(255)  NOT NULL
+        CHECK (platform IN ('FACEBOOK', 'INSTAGRAM', 'TIKTOK', 'ZALO', 'TWITTER', 'LINKEDIN', 'YOUTUBE')),
+    account_id             VARCHAR(255)  NOT NULL,
+    account_name           VARCHAR(255)  NOT NULL,
+    access_token           VARCHAR(1000),
+    refresh_token          VARCHAR(1000),
+    token_expiry_date      TIMESTAMP(6),
+    is_active              BOOLEAN       NOT NULL,
+    created_at             TIMESTAMP(6)  NOT NULL,
+    updated_at             TIMESTAMP(6)  NOT NULL,
+    created_by             VARCHAR(255),
+    updated_by             VARCHAR(255)
+);
+
+CREATE TABLE posts (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    author_id      BIGINT REFERENCES users (id),
+    title          VARCHAR(255) NOT NULL,
+    content        TEXT         NOT NULL,
+    source_link    TEXT,
+    status         VARCHAR(255) NOT NULL
+        CHECK (status IN ('DRAFT', 'SCHEDULED', 'PUBLISHED', 'FAILED', 'CANCELED')),
+    scheduled_time TIMESTAMP(6),
+    published_at   TIMESTAMP(6),
+    is_active      BOOLEAN      NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    created_by     VARCHAR(255),
+    updated_by     VARCHAR(255)
+);
+
+CREATE TABLE post_platforms (
+    post_id          BIGINT NOT NULL REFERENCES posts (id),
+    target_platforms VARCHAR(255)
+        CHECK (target_platforms IN ('FACEBOOK', 'INSTAGRAM', 'TIKTOK', 'ZALO', 'TWITTER', 'LINKEDIN', 'YOUTUBE'))
+);
+
+CREATE TABLE platform_posts (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    post_id           BIGINT       NOT NULL REFERENCES posts (id),
+    social_account_id BIGINT       NOT NULL REFERENCES social_accounts (id),
+    platform          VARCHAR(255) NOT NULL
+        CHECK (platform IN ('FACEBOOK', 'INSTAGRAM', 'TIKTOK', 'ZALO', 'TWITTER', 'LINKEDIN', 'YOUTUBE')),
+    platform_content  TEXT,
+    platform_post_id  VARCHAR(255),
+    platform_post_url VARCHAR(255),
+    status            VARCHAR(255) NOT NULL
+        CHECK (status IN ('DRAFT', 'SCHEDULED', 'PUBLISHED', 'FAILED', 'CANCELED')),
+    error_message     VARCHAR(255),
+    published_at      TIMESTAMP(6),
+    is_active         BOOLEAN      NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL,
+    created_by        VARCHAR(255),
+    updated_by        VARCHAR(255)
+);
+
+CREATE TABLE media_attachments (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    post_id       BIGINT REFERENCES posts (id),
+    filename      VARCHAR(255) NOT NULL,
+    file_url      VARCHAR(255) NOT NULL,
+    thumbnail_url VARCHAR(255),
+    file_size     BIGINT       NOT NULL,
+    media_type    VARCHAR(255) NOT NULL
+        CHECK (media_type IN ('IMAGE', 'VIDEO', 'GIF', 'DOCUMENT', 'AUDIO')),
+    is_active     BOOLEAN      NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    created_by    VARCHAR(255),
+    updated_by    VARCHAR(255)
+);
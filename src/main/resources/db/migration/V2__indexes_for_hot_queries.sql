@@ -0,0 +1,63 @@
+-- Indexes for the repository queries that run on every request or scheduler poll.
+-- IF NOT EXISTS: databases baselined from ddl-auto may already have some of them.
+
+-- posts ---------------------------------------------------------------------
+
+-- PostRepository.findByAuthor, findByAuthorOrderByCreatedAtDescIdDesc (keyset pages), streamSummaries
+CREATE INDEX IF NOT EXISTS idx_posts_author_created ON posts (author_id, created_at, id);
+
+-- PostRepository.findByStatus, findByStatusAndScheduledTimeLessThanEqual
+CREATE INDEX IF NOT EXISTS idx_posts_status_scheduled ON posts (status, scheduled_time);
+
+-- PostRepository.lockDuePosts: only SCHEDULED posts are ever polled, a small fraction of the table
+CREATE INDEX IF NOT EXISTS idx_posts_due ON posts (scheduled_time) WHERE status = 'SCHEDULED';
+
+-- PostRepository.findStalePublishing
+CREATE INDEX IF NOT EXISTS idx_posts_publishing_claimed ON posts (claimed_at) WHERE status = 'PUBLISHING';
+
+-- Post.targetPlatforms (batch loaded by post)
+CREATE INDEX IF NOT EXISTS idx_post_platforms_post ON post_platforms (post_id);
+
+-- platform_posts ------------------------------------------------------------
+
+-- PlatformPostRepository.findByPost, resetInFlight, deleteByPost and Post.platformPosts
+CREATE INDEX IF NOT EXISTS idx_platform_posts_post ON platform_posts (post_id, platform);
+
+-- PlatformPostRepository.findBySocialAccount and account deletion
+CREATE INDEX IF NOT EXISTS idx_platform_posts_account ON platform_posts (social_account_id);
+
+-- PlatformPostRepository.findByStatus
+CREATE INDEX IF NOT EXISTS idx_platform_posts_status ON platform_posts (status);
+
+-- PlatformPostRepository.lockDueRetries
+CREATE INDEX IF NOT EXISTS idx_platform_posts_retry_due ON platform_posts (next_attempt_at) WHERE status = 'FAILED';
+
+-- PlatformPostRepository.failStaleAttempts
+CREATE INDEX IF NOT EXISTS idx_platform_posts_publishing_claimed ON platform_posts (claimed_at) WHERE status = 'PUBLISHING';
+
+-- media ---------------------------------------------------------------------
+
+-- MediaAttachmentRepository.findByPost, deleteByPost and Post.mediaAttachments
+CREATE INDEX IF NOT EXISTS idx_media_attachments_post ON media_attachments (post_id);
+
+-- MediaUploadRepository.findValid and upsert use uk_media_uploads_content_account_platform;
+-- deleteByMediaIds and deleteExpired need their own
+CREATE INDEX IF NOT EXISTS idx_media_uploads_account_media ON media_uploads (social_account_id, platform, media_id);
+CREATE INDEX IF NOT EXISTS idx_media_uploads_expires ON media_uploads (expires_at);
+
+-- social_accounts -----------------------------------------------------------
+
+-- SocialAccountRepository.findByPlatformAndAccountId
+CREATE INDEX IF NOT EXISTS idx_social_accounts_platform_account ON social_accounts (platform, account_id);
+
+-- SocialAccountRepository.findByUserAndActiveTrue, findByUserAndActiveTrueAndPlatformInOrderByIdAsc, findByIdAndUser
+CREATE INDEX IF NOT EXISTS idx_social_accounts_user_active ON social_accounts (user_id, is_active);
+
+-- SocialAccountRepository.lockDueTokenRefreshes only looks at active accounts
+DROP INDEX IF EXISTS idx_social_accounts_token_expiry;
+CREATE INDEX idx_social_accounts_token_expiry ON social_accounts (token_expiry_date) WHERE is_active;
+
+-- users ---------------------------------------------------------------------
+
+-- Roles of a user (user_roles' primary key leads with role_id)
+CREATE INDEX IF NOT EXISTS idx_user_roles_user ON user_roles (user_id);
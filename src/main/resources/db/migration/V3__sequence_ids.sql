@@ -0,0 +1,16 @@
+-- Move entity ids from IDENTITY columns to sequences so Hibernate can batch inserts.
+-- Hibernate allocates 50 ids per nextval (pooled-lo: the value is the first id of the block),
+-- so each sequence starts after the highest existing id and increments by 50.
+-- roles keeps its IDENTITY column: it is a small, rarely written lookup table.
+
+DO $$
+DECLARE
+    tbl TEXT;
+BEGIN
+    FOREACH tbl IN ARRAY ARRAY['users', 'social_accounts', 'posts', 'platform_posts', 'media_attachments', 'media_uploads']
+    LOOP
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50', tbl || '_seq');
+        EXECUTE format('SELECT setval(%L, COALESCE((SELECT MAX(id) FROM %I), 0) + 1, false)', tbl || '_seq', tbl);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', tbl);
+    END LOOP;
+END $$;
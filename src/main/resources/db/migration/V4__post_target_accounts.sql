@@ -0,0 +1,6 @@
+-- Social accounts selected per post (Post.targetAccountIds)
+CREATE TABLE post_target_accounts (
+    post_id           BIGINT NOT NULL REFERENCES posts (id),
+    social_account_id BIGINT NOT NULL REFERENCES social_accounts (id),
+    PRIMARY KEY (post_id, social_account_id)
+);
@@ -0,0 +1,3 @@
+-- Optimistic locking of posts and platform posts (Post.version, PlatformPost.version)
+ALTER TABLE posts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE platform_posts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
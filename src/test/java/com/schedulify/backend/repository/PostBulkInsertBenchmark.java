@@ -0,0 +1,128 @@
+package com.schedulify.backend.repository;
+
+import com.schedulify.backend.model.entity.PlatformPost;
+import com.schedulify.backend.model.entity.Post;
+import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.model.entity.User;
+import com.schedulify.backend.model.enums.Platform;
+import com.schedulify.backend.service.user.UserCacheInvalidator;
+import com.schedulify.backend.service.user.UserIdentityCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rows per second when creating posts with their platform posts, one statement per row (as with
+ * IDENTITY keys, which rule out batching) and with JDBC batching. Runs on H2, so the gain is what
+ * is left without network round-trips; against PostgreSQL it is larger. Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@Import({UserIdentityCache.class, UserCacheInvalidator.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // Statement and bind logging would dominate the measurement
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind=WARN"
+})
+class PostBulkInsertBenchmark {
+
+    private static final int WARMUP_POSTS = 2_000;
+    private static final int POSTS = 10_000;
+    private static final int FLUSH_EVERY = 100;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void bulkPostCreation() {
+        User author = new User();
+        author.setEmail("author@example.com");
+        author.setPassword("secret");
+        author.setFullName("Author");
+        entityManager.persist(author);
+        List<SocialAccount> accounts = List.of(account(author, Platform.FACEBOOK), account(author, Platform.LINKEDIN),
+                account(author, Platform.TWITTER));
+        entityManager.flush();
+
+        insert(author, accounts, WARMUP_POSTS, 1);
+        insert(author, accounts, WARMUP_POSTS, 50);
+
+        double unbatched = insert(author, accounts, POSTS, 1);
+        double batched = insert(author, accounts, POSTS, 50);
+        assertTrue(batched > unbatched, "batched inserts should be faster");
+    }
+
+    /**
+     * @return Rows inserted per second
+     */
+    private double insert(User author, List<SocialAccount> accounts, int posts, int batchSize) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        User authorRef = entityManager.getReference(User.class, author.getId());
+        List<SocialAccount> accountRefs = accounts.stream()
+                .map(account -> entityManager.getReference(SocialAccount.class, account.getId())).toList();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < posts; i++) {
+            Post post = new Post();
+            post.setTitle("Post " + i);
+            post.setContent("Content of post " + i);
+            post.setAuthor(authorRef);
+            for (SocialAccount account : accountRefs) {
+                PlatformPost platformPost = new PlatformPost();
+                platformPost.setPost(post);
+                platformPost.setPlatform(account.getPlatform());
+                platformPost.setSocialAccount(account);
+                post.getPlatformPosts().add(platformPost);
+            }
+            entityManager.persist(post);
+            if ((i + 1) % FLUSH_EVERY == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                authorRef = entityManager.getReference(User.class, author.getId());
+                accountRefs = accounts.stream()
+                        .map(account -> entityManager.getReference(SocialAccount.class, account.getId())).toList();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long elapsed = System.nanoTime() - start;
+
+        long rows = (long) posts * (1 + accounts.size());
+        double rowsPerSecond = rows * 1e9 / elapsed;
+        System.out.printf("batch size %2d: %,10.0f rows/s, %,7d statements for %,d rows%n",
+                batchSize, rowsPerSecond, statistics.getPrepareStatementCount(), rows);
+        return rowsPerSecond;
+    }
+
+    private SocialAccount account(User user, Platform platform) {
+        SocialAccount account = new SocialAccount();
+        account.setPlatform(platform);
+        account.setAccountId(platform.name().toLowerCase());
+        account.setAccountName(platform.name());
+        account.setUser(user);
+        entityManager.persist(account);
+        return account;
+    }
+}
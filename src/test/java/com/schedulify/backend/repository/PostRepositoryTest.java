@@ -0,0 +1,302 @@
+package com.schedulify.backend.repository;
+
+import com.schedulify.backend.mapper.MediaAttachmentMapperImpl;
+import com.schedulify.backend.mapper.PlatformPostMapperImpl;
+import com.schedulify.backend.mapper.PostMapperImpl;
+import com.schedulify.backend.model.dto.response.PostDTO;
+import com.schedulify.backend.model.entity.MediaAttachment;
+import com.schedulify.backend.model.entity.PlatformPost;
+import com.schedulify.backend.model.entity.Post;
+import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.model.entity.User;
+import com.schedulify.backend.model.enums.MediaType;
+import com.schedulify.backend.model.enums.Platform;
+import com.schedulify.backend.model.enums.PostStatus;
+import com.schedulify.backend.model.projection.PostSummaryRow;
+import com.schedulify.backend.service.user.UserCacheInvalidator;
+import com.schedulify.backend.service.user.UserIdentityCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that building {@link PostDTO}s loads posts in a constant number of queries, whatever
+ * the number of posts, attachments and platform posts, and the other hot post queries.
+ */
+@DataJpaTest
+@Import({PostMapperImpl.class, MediaAttachmentMapperImpl.class, PlatformPostMapperImpl.class,
+        UserIdentityCache.class, UserCacheInvalidator.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = {
+        // The migrations are PostgreSQL specific; H2 gets the schema from the mappings
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PostRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private SocialAccountRepository socialAccountRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PostMapperImpl postMapper;
+
+    @Autowired
+    private MediaAttachmentMapperImpl mediaAttachmentMapper;
+
+    @Autowired
+    private PlatformPostMapperImpl platformPostMapper;
+
+    private User author;
+    private List<SocialAccount> accounts;
+
+    @BeforeEach
+    void setUp() {
+        author = new User();
+        author.setEmail("author@example.com");
+        author.setPassword("secret");
+        author.setFullName("Author");
+        entityManager.persist(author);
+
+        accounts = List.of(account(Platform.FACEBOOK, "page-1"), account(Platform.LINKEDIN, "company-1"),
+                account(Platform.TWITTER, "handle-1"));
+    }
+
+    @Test
+    void pageOfPostsLoadsInConstantQueries() {
+        createPosts(15);
+        long fewPosts = queriesToMapPage(2);
+        long manyPosts = queriesToMapPage(10);
+
+        assertEquals(fewPosts, manyPosts, "queries should not grow with the page size");
+        // Page, count, then one batch each for platforms, selected accounts, attachments, platform posts and accounts
+        assertTrue(manyPosts <= 7, "expected at most 7 queries, got " + manyPosts);
+    }
+
+    @Test
+    void postDetailsLoadInConstantQueries() {
+        Post post = createPosts(1).get(0);
+        entityManager.clear();
+        Statistics statistics = statistics();
+
+        PostDTO dto = mapToDTO(postRepository.findWithDetailsByIdAndAuthor(post.getId(), author).orElseThrow());
+
+        assertEquals(3, dto.getPlatformPosts().size());
+        assertEquals(2, dto.getMediaAttachments().size());
+        assertEquals(1, dto.getTargetAccountIds().size());
+        // Post with platform posts and accounts, then attachments, platforms and selected accounts
+        assertTrue(statistics.getPrepareStatementCount() <= 4,
+                "expected at most 4 queries, got " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void activeAccountsAreResolvedForTheUserOnly() {
+        User other = new User();
+        other.setEmail("other@example.com");
+        other.setPassword("secret");
+        other.setFullName("Other");
+        entityManager.persist(other);
+        SocialAccount othersPage = account(Platform.FACEBOOK, "page-2");
+        othersPage.setUser(other);
+        SocialAccount inactivePage = account(Platform.FACEBOOK, "page-3");
+        inactivePage.setActive(false);
+        SocialAccount secondPage = account(Platform.FACEBOOK, "page-4");
+        entityManager.flush();
+        entityManager.clear();
+
+        List<SocialAccount> found = socialAccountRepository.findByUserAndActiveTrueAndPlatformInOrderByIdAsc(
+                author, List.of(Platform.FACEBOOK, Platform.TWITTER));
+
+        assertEquals(List.of(accounts.get(0).getId(), accounts.get(2).getId(), secondPage.getId()),
+                found.stream().map(SocialAccount::getId).toList());
+    }
+
+    @Test
+    void statusTransitionsWinOnceAndRejectStaleWrites() {
+        Post post = createPosts(1).get(0);
+        entityManager.clear();
+        Post stale = postRepository.findById(post.getId()).orElseThrow();
+        entityManager.detach(stale);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PostStatus> publishable = List.of(PostStatus.DRAFT, PostStatus.SCHEDULED);
+        assertEquals(1, postRepository.claimForPublishing(List.of(post.getId()), publishable, now));
+        assertEquals(0, postRepository.claimForPublishing(List.of(post.getId()), publishable, now));
+
+        stale.setStatus(PostStatus.SCHEDULED);
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> postRepository.saveAndFlush(stale));
+    }
+
+    @Test
+    void summariesStreamOneRowPerPlatformPost() {
+        List<Post> posts = createPosts(2);
+        posts.get(0).setContent("x".repeat(PostRepository.CONTENT_PREVIEW_LENGTH + 50));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<PostSummaryRow> rows = summaries(10);
+
+        assertEquals(6, rows.size());
+        // Newest first, rows of a post consecutive
+        assertEquals(posts.get(1).getId(), rows.get(0).id());
+        assertEquals(posts.get(0).getId(), rows.get(5).id());
+        assertEquals(PostRepository.CONTENT_PREVIEW_LENGTH, rows.get(5).contentPreview().length());
+    }
+
+    @Test
+    void summariesAreLimitedToTheNewestPosts() {
+        List<Post> posts = createPosts(3);
+        entityManager.clear();
+
+        List<PostSummaryRow> rows = summaries(1);
+
+        // The limit counts posts, not rows: all three platform rows of the newest post
+        assertEquals(3, rows.size());
+        assertTrue(rows.stream().allMatch(row -> row.id().equals(posts.get(2).getId())));
+    }
+
+    private List<PostSummaryRow> summaries(int limit) {
+        try (Stream<PostSummaryRow> stream = postRepository.streamSummaries(author.getId(), null, limit)) {
+            return stream.toList();
+        }
+    }
+
+    @Test
+    void keysetWindowsVisitEveryPostOnce() {
+        List<Post> posts = createPosts(5);
+        // Ties on created_at are broken by id; created_at is not updatable through the entity
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        for (Post post : posts) {
+            entityManager.createNativeQuery("UPDATE posts SET created_at = :createdAt WHERE id = :id")
+                    .setParameter("createdAt", post == posts.get(4) ? createdAt.minusDays(1) : createdAt)
+                    .setParameter("id", post.getId())
+                    .executeUpdate();
+        }
+        entityManager.clear();
+
+        List<Long> visited = new ArrayList<>();
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<Post> window;
+        do {
+            window = postRepository.findByAuthorOrderByCreatedAtDescIdDesc(author, position, Limit.of(2));
+            window.forEach(post -> visited.add(post.getId()));
+            if (!window.isEmpty()) {
+                Post last = window.getContent().get(window.size() - 1);
+                Map<String, Object> keys = new LinkedHashMap<>();
+                keys.put("createdAt", last.getCreatedAt());
+                keys.put("id", last.getId());
+                position = ScrollPosition.forward(keys);
+            }
+        } while (window.hasNext());
+
+        assertEquals(List.of(posts.get(3).getId(), posts.get(2).getId(), posts.get(1).getId(),
+                posts.get(0).getId(), posts.get(4).getId()), visited);
+    }
+
+    private long queriesToMapPage(int pageSize) {
+        entityManager.clear();
+        Statistics statistics = statistics();
+
+        List<PostDTO> page = postRepository.findByAuthor(author, PageRequest.of(0, pageSize)).map(this::mapToDTO).getContent();
+
+        assertEquals(pageSize, page.size());
+        assertTrue(page.stream().allMatch(dto -> dto.getPlatformPosts().size() == 3
+                && dto.getMediaAttachments().size() == 2
+                && dto.getPlatformPosts().get(0).getSocialAccountName() != null));
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Same mapping as {@code PostService.mapToDTO}.
+     */
+    private PostDTO mapToDTO(Post post) {
+        PostDTO dto = postMapper.toDTO(post);
+        dto.setMediaAttachments(post.getMediaAttachments().stream().map(mediaAttachmentMapper::toDTO).toList());
+        dto.setPlatformPosts(post.getPlatformPosts().stream().map(platformPostMapper::toDTO).toList());
+        return dto;
+    }
+
+    private List<Post> createPosts(int count) {
+        // Reloaded, as earlier checks may have cleared the persistence context
+        User author = entityManager.find(User.class, this.author.getId());
+        List<SocialAccount> managed = accounts.stream()
+                .map(account -> entityManager.find(SocialAccount.class, account.getId())).toList();
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Post post = new Post();
+            post.setTitle("Post " + i);
+            post.setContent("Content " + i);
+            post.setAuthor(author);
+            post.getTargetAccountIds().add(managed.get(0).getId());
+            for (int m = 0; m < 2; m++) {
+                MediaAttachment attachment = new MediaAttachment();
+                attachment.setFilename("image-" + m + ".jpg");
+                attachment.setFileUrl("/uploads/image-" + m + ".jpg");
+                attachment.setFileSize(1024);
+                attachment.setMediaType(MediaType.IMAGE);
+                attachment.setPost(post);
+                post.getMediaAttachments().add(attachment);
+            }
+            for (SocialAccount account : managed) {
+                PlatformPost platformPost = new PlatformPost();
+                platformPost.setPost(post);
+                platformPost.setPlatform(account.getPlatform());
+                platformPost.setSocialAccount(account);
+                post.getTargetPlatforms().add(account.getPlatform());
+                post.getPlatformPosts().add(platformPost);
+            }
+            entityManager.persist(post);
+            posts.add(post);
+        }
+        entityManager.flush();
+        return posts;
+    }
+
+    private SocialAccount account(Platform platform, String accountId) {
+        SocialAccount account = new SocialAccount();
+        account.setPlatform(platform);
+        account.setAccountId(accountId);
+        account.setAccountName(accountId);
+        account.setUser(author);
+        entityManager.persist(account);
+        return account;
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,353 @@
+package com.schedulify.backend.repository;
+
+import com.schedulify.backend.model.entity.MediaAttachment;
+import com.schedulify.backend.model.entity.PlatformPost;
+import com.schedulify.backend.model.entity.Post;
+import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.model.entity.User;
+import com.schedulify.backend.model.enums.MediaType;
+import com.schedulify.backend.model.enums.Platform;
+import com.schedulify.backend.model.enums.PostStatus;
+import com.schedulify.backend.model.projection.DuePostView;
+import com.schedulify.backend.model.projection.PostSummaryRow;
+import com.schedulify.backend.service.user.UserCacheInvalidator;
+import com.schedulify.backend.service.user.UserIdentityCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs the Flyway migrations on PostgreSQL, validates the mappings against them, and checks that
+ * the hot repository queries are served by an index.
+ * <p>
+ * Each repository method is called for real while the statements it prepares are recorded with
+ * their parameter bindings; every recorded statement is then explained with the same bindings.
+ * Sequential scans are disabled for the session, so the planner only picks one when no index
+ * can serve the query. Skipped when Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserIdentityCache.class, UserCacheInvalidator.class, SimpleMeterRegistry.class,
+        QueryPlanTest.RecordingConfig.class})
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PlatformPostRepository platformPostRepository;
+
+    @Autowired
+    private SocialAccountRepository socialAccountRepository;
+
+    @Autowired
+    private MediaUploadRepository mediaUploadRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private StatementRecorder recorder;
+
+    @BeforeEach
+    void recordStatements() {
+        // Replaced by RecordingConfig, and shared with Hibernate and the JdbcTemplate
+        recorder = (StatementRecorder) dataSource;
+    }
+
+    @Test
+    void hotQueriesUseAnIndex() {
+        User author = createSampleData();
+        SocialAccount account = socialAccountRepository.findByUserAndActiveTrue(author).get(0);
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, Runnable> hotQueries = new LinkedHashMap<>();
+        hotQueries.put("PostRepository.findByAuthor and batch fetching of its collections", () ->
+                postRepository.findByAuthor(author, PageRequest.of(0, 20)).forEach(post -> {
+                    Hibernate.initialize(post.getPlatformPosts());
+                    Hibernate.initialize(post.getMediaAttachments());
+                    Hibernate.initialize(post.getTargetPlatforms());
+                    Hibernate.initialize(post.getTargetAccountIds());
+                }));
+        hotQueries.put("PostRepository.findByAuthorOrderByCreatedAtDescIdDesc", () ->
+                postRepository.findByAuthorOrderByCreatedAtDescIdDesc(author, ScrollPosition.keyset(), Limit.of(1))
+                        .positionAt(0));
+        hotQueries.put("PostRepository.findByAuthorOrderByCreatedAtDescIdDesc (next window)", () -> {
+            var first = postRepository.findByAuthorOrderByCreatedAtDescIdDesc(author, ScrollPosition.keyset(), Limit.of(1));
+            recorder.clear();
+            postRepository.findByAuthorOrderByCreatedAtDescIdDesc(author, first.positionAt(0), Limit.of(1));
+        });
+        hotQueries.put("PostRepository.streamSummaries", () -> {
+            try (Stream<PostSummaryRow> rows = postRepository.streamSummaries(author.getId(), null, 100)) {
+                rows.forEach(row -> { });
+            }
+        });
+        hotQueries.put("PostRepository.findByStatusAndScheduledTimeLessThanEqual", () ->
+                postRepository.findByStatusAndScheduledTimeLessThanEqual(PostStatus.SCHEDULED, now, DuePostView.class));
+        hotQueries.put("PostRepository.lockDuePosts", () -> postRepository.lockDuePosts(now, 50));
+        hotQueries.put("PostRepository.findStalePublishing", () -> postRepository.findStalePublishing(now));
+        hotQueries.put("PlatformPostRepository.findByStatus", () -> platformPostRepository.findByStatus(PostStatus.FAILED));
+        hotQueries.put("PlatformPostRepository.findBySocialAccount", () -> platformPostRepository.findBySocialAccount(account));
+        hotQueries.put("PlatformPostRepository.lockDueRetries", () -> platformPostRepository.lockDueRetries(now, 50));
+        hotQueries.put("PlatformPostRepository.failStaleAttempts", () -> platformPostRepository.failStaleAttempts(now, now));
+        hotQueries.put("SocialAccountRepository.findByPlatformAndAccountId", () ->
+                socialAccountRepository.findByPlatformAndAccountId(Platform.FACEBOOK, "page-1"));
+        hotQueries.put("SocialAccountRepository.findByUserAndActiveTrueAndPlatformInOrderByIdAsc", () ->
+                socialAccountRepository.findByUserAndActiveTrueAndPlatformInOrderByIdAsc(author,
+                        List.of(Platform.FACEBOOK, Platform.INSTAGRAM)));
+        hotQueries.put("SocialAccountRepository.findByUserAndActiveTrue", () ->
+                socialAccountRepository.findByUserAndActiveTrue(author));
+        hotQueries.put("SocialAccountRepository.lockDueTokenRefreshes", () ->
+                socialAccountRepository.lockDueTokenRefreshes(now, now, 50));
+        hotQueries.put("MediaUploadRepository.findValid", () ->
+                mediaUploadRepository.findValid(account.getId(), Platform.FACEBOOK, List.of("a", "b"), now));
+        hotQueries.put("MediaUploadRepository.deleteByMediaIds", () ->
+                mediaUploadRepository.deleteByMediaIds(account.getId(), Platform.FACEBOOK, List.of("1", "2")));
+        hotQueries.put("MediaUploadRepository.deleteExpired", () -> mediaUploadRepository.deleteExpired(now));
+        hotQueries.put("UserRepository.findByEmail and the roles of a user", () ->
+                userRepository.findByEmail(author.getEmail()));
+
+        // Same connection as the statements: @DataJpaTest runs the test in a transaction
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        assertAll(hotQueries.entrySet().stream()
+                .map(hotQuery -> (Executable) () -> assertUsesIndexes(hotQuery.getKey(), hotQuery.getValue())));
+    }
+
+    private void assertUsesIndexes(String name, Runnable call) {
+        entityManager.clear();
+        recorder.start();
+        try {
+            call.run();
+        } finally {
+            recorder.stop();
+        }
+
+        List<RecordedStatement> statements = recorder.drain();
+        assertFalse(statements.isEmpty(), () -> name + " did not run any statement");
+        for (RecordedStatement statement : statements) {
+            List<String> plan = jdbcTemplate.query(connection -> {
+                PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql());
+                statement.bind(explain);
+                return explain;
+            }, (row, index) -> row.getString(1));
+
+            assertFalse(plan.stream().anyMatch(line -> line.contains("Seq Scan")),
+                    () -> "Sequential scan in " + name + ":\n" + statement.sql() + "\n" + String.join("\n", plan));
+        }
+    }
+
+    private User createSampleData() {
+        User author = new User();
+        author.setEmail("author@example.com");
+        author.setPassword("secret");
+        author.setFullName("Author");
+        entityManager.persist(author);
+
+        List<SocialAccount> accounts = new ArrayList<>();
+        for (Platform platform : List.of(Platform.FACEBOOK, Platform.INSTAGRAM)) {
+            SocialAccount account = new SocialAccount();
+            account.setPlatform(platform);
+            account.setAccountId(platform == Platform.FACEBOOK ? "page-1" : "account-1");
+            account.setAccountName(account.getAccountId());
+            account.setUser(author);
+            entityManager.persist(account);
+            accounts.add(account);
+        }
+
+        // Two posts, so collections are batch fetched for several owners
+        for (int i = 0; i < 2; i++) {
+            Post post = new Post();
+            post.setTitle("Post " + i);
+            post.setContent("Content " + i);
+            post.setAuthor(author);
+            post.getTargetAccountIds().add(accounts.get(0).getId());
+            MediaAttachment attachment = new MediaAttachment();
+            attachment.setFilename("image.jpg");
+            attachment.setFileUrl("/uploads/image.jpg");
+            attachment.setFileSize(1024);
+            attachment.setMediaType(MediaType.IMAGE);
+            attachment.setPost(post);
+            post.getMediaAttachments().add(attachment);
+            for (SocialAccount account : accounts) {
+                PlatformPost platformPost = new PlatformPost();
+                platformPost.setPost(post);
+                platformPost.setPlatform(account.getPlatform());
+                platformPost.setSocialAccount(account);
+                post.getTargetPlatforms().add(account.getPlatform());
+                post.getPlatformPosts().add(platformPost);
+            }
+            entityManager.persist(post);
+        }
+        entityManager.flush();
+        return author;
+    }
+
+    /**
+     * A statement as prepared by Hibernate, with the calls that bound its parameters.
+     */
+    record RecordedStatement(String sql, List<Binding> bindings) {
+
+        void bind(PreparedStatement statement) throws SQLException {
+            for (Binding binding : bindings) {
+                binding.applyTo(statement);
+            }
+        }
+    }
+
+    /**
+     * One {@code PreparedStatement.setXxx(index, ...)} call.
+     */
+    record Binding(Method method, Object[] args) {
+
+        void applyTo(PreparedStatement statement) throws SQLException {
+            try {
+                method.invoke(statement, args);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                throw e.getCause() instanceof SQLException sqlException ? sqlException : new SQLException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Data source that records the statements prepared on its connections while recording is on.
+     */
+    static class StatementRecorder extends DelegatingDataSource {
+
+        private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+        private volatile boolean recording;
+
+        StatementRecorder(DataSource target) {
+            super(target);
+        }
+
+        void start() {
+            statements.clear();
+            recording = true;
+        }
+
+        void stop() {
+            recording = false;
+        }
+
+        void clear() {
+            statements.clear();
+        }
+
+        List<RecordedStatement> drain() {
+            List<RecordedStatement> recorded = List.copyOf(statements);
+            statements.clear();
+            return recorded;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return recording(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return recording(super.getConnection(username, password));
+        }
+
+        private Connection recording(Connection connection) {
+            return proxy(Connection.class, (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (!recording || !(result instanceof PreparedStatement statement)
+                        || !method.getName().equals("prepareStatement")) {
+                    return result;
+                }
+                RecordedStatement recorded = new RecordedStatement((String) args[0], new CopyOnWriteArrayList<>());
+                statements.add(recorded);
+                return proxy(PreparedStatement.class, (statementProxy, statementMethod, statementArgs) -> {
+                    if (statementMethod.getName().startsWith("set") && statementArgs != null
+                            && statementArgs.length >= 2 && statementArgs[0] instanceof Integer) {
+                        recorded.bindings().add(new Binding(statementMethod, statementArgs));
+                    }
+                    return invoke(statement, statementMethod, statementArgs);
+                });
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return (T) Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingConfig {
+
+        @Bean
+        static BeanPostProcessor statementRecording() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource target && !(bean instanceof StatementRecorder)
+                            ? new StatementRecorder(target)
+                            : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.schedulify.backend.security;
+
+import com.schedulify.backend.model.entity.Role;
+import com.schedulify.backend.service.user.UserIdentity;
+import com.schedulify.backend.support.MicroBenchmark.Result;
+import com.schedulify.backend.utils.AppConstants;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.schedulify.backend.support.MicroBenchmark.measure;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Per-request cost of authenticating a bearer token in {@link JwtAuthenticationFilter}, compared
+ * with decoding it through Spring's generic {@link NimbusJwtDecoder}. Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+class JwtAuthenticationFilterBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private static final SecretKey KEY = new SecretKeySpec(
+            "benchmark-signing-key-of-at-least-32-bytes".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+    @Test
+    void authenticateRequest() throws Exception {
+        JwtTokenProvider provider = new JwtTokenProvider(KEY, "schedulify", 900, 604800);
+        String token = provider.issueTokens(new UserIdentity(42L, "user@example.com", "User", null,
+                List.of(Role.RoleType.ROLE_USER, Role.RoleType.ROLE_CONTENT_MANAGER),
+                true, true, true, true)).getAccessToken();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+        request.addHeader(AppConstants.HEADER_STRING, AppConstants.TOKEN_PREFIX + token);
+
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider);
+        Authentication authentication = filter(filter, request);
+        assertEquals(42L, ((JwtPrincipal) authentication.getPrincipal()).userId());
+        assertEquals(2, authentication.getAuthorities().size());
+
+        // Baseline: Spring's generic decoder, which converts every claim before validating
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(KEY).macAlgorithm(MacAlgorithm.HS256).build();
+        Result generic = measure("generic decoder", WARMUP, ITERATIONS, () -> {
+            Jwt jwt = decoder.decode(token);
+            return UsernamePasswordAuthenticationToken.authenticated(new JwtPrincipal(Long.valueOf(jwt.getSubject()),
+                    jwt.getClaimAsString("email")), null, jwt.getClaimAsStringList("roles").stream()
+                    .map(SimpleGrantedAuthority::new).toList());
+        });
+        Result direct = measure("filter         ", WARMUP, ITERATIONS, () -> filter(filter, request));
+        assertTrue(direct.bytesPerOp() < generic.bytesPerOp(), "filter should allocate less than the generic decoder");
+    }
+
+    private static Authentication filter(JwtAuthenticationFilter filter, MockHttpServletRequest request) throws Exception {
+        // OncePerRequestFilter marks the request as filtered
+        request.removeAttribute(filter.getClass().getName() + ".FILTERED");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,190 @@
+package com.schedulify.backend.service;
+
+import com.schedulify.backend.mapper.MediaAttachmentMapperImpl;
+import com.schedulify.backend.mapper.PlatformPostMapperImpl;
+import com.schedulify.backend.mapper.PostMapperImpl;
+import com.schedulify.backend.model.dto.BaseApiResponse;
+import com.schedulify.backend.model.dto.response.PostDTO;
+import com.schedulify.backend.model.entity.Post;
+import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.model.entity.User;
+import com.schedulify.backend.model.enums.Platform;
+import com.schedulify.backend.model.enums.PostStatus;
+import com.schedulify.backend.repository.PostRepository;
+import com.schedulify.backend.repository.SocialAccountRepository;
+import com.schedulify.backend.repository.UserRepository;
+import com.schedulify.backend.service.scheduler.PostPublisher;
+import com.schedulify.backend.service.socialmedia.SocialMediaIntegrationService;
+import com.schedulify.backend.service.user.UserCacheInvalidator;
+import com.schedulify.backend.service.user.UserIdentityCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that the version returned by {@link PostService} is the one the change is committed with,
+ * and that concurrent changes are answered with a conflict.
+ * <p>
+ * Calls go through the Spring bean and commit for real, as they do for a client: a conflict that
+ * only marks the transaction rollback-only would surface at commit instead of as a 409.
+ */
+@DataJpaTest
+@Import({PostService.class, PostMapperImpl.class, MediaAttachmentMapperImpl.class, PlatformPostMapperImpl.class,
+        UserIdentityCache.class, UserCacheInvalidator.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = {
+        // The migrations are PostgreSQL specific; H2 gets the schema from the mappings
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostServiceTest {
+
+    @TempDir
+    private static Path uploadDir;
+
+    @DynamicPropertySource
+    static void uploadDir(DynamicPropertyRegistry registry) {
+        registry.add("file.upload-dir", uploadDir::toString);
+    }
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private SocialMediaIntegrationService socialMediaIntegrationService;
+
+    @MockitoBean
+    private PostPublisher postPublisher;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private SocialAccountRepository socialAccountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        User author = new User();
+        author.setEmail("author@example.com");
+        author.setPassword("secret");
+        author.setFullName("Author");
+        author = userRepository.save(author);
+
+        SocialAccount account = new SocialAccount();
+        account.setPlatform(Platform.FACEBOOK);
+        account.setAccountId("page-1");
+        account.setAccountName("Page");
+        account.setUser(author);
+        socialAccountRepository.save(account);
+
+        when(userService.getCurrentUser()).thenReturn(author);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String table : new String[] {"post_target_accounts", "post_platforms", "platform_posts",
+                "media_attachments", "posts", "social_accounts", "user_roles", "users"}) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void updateWithTheReturnedVersionSucceeds() {
+        PostDTO created = body(postService.createPost(draft("First")));
+
+        PostDTO first = body(postService.updatePost(created.getId(), edit(created, "Second")));
+        PostDTO second = body(postService.updatePost(created.getId(), edit(first, "Third")));
+
+        assertEquals(created.getVersion() + 2, second.getVersion());
+        assertEquals(second.getVersion(), postRepository.findById(created.getId()).orElseThrow().getVersion());
+        assertEquals("Third", second.getContent());
+    }
+
+    @Test
+    void updateWithAStaleVersionIsAConflict() {
+        PostDTO created = body(postService.createPost(draft("First")));
+        body(postService.updatePost(created.getId(), edit(created, "Second")));
+
+        ResponseEntity<BaseApiResponse<PostDTO>> stale = postService.updatePost(created.getId(), edit(created, "Third"));
+
+        assertEquals(HttpStatus.CONFLICT, stale.getStatusCode());
+    }
+
+    @Test
+    void scheduleRacingAnUpdateIsAConflict() {
+        PostDTO created = body(postService.createPost(draft("First")));
+        // Another request changes the post while this one is between reading and writing it
+        when(socialMediaIntegrationService.formatContent(any(), anyString(), any())).thenAnswer(invocation -> {
+            TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+            concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            concurrent.executeWithoutResult(status ->
+                    postRepository.findById(created.getId()).orElseThrow().setContent("Changed elsewhere"));
+            return "formatted";
+        });
+
+        ResponseEntity<BaseApiResponse<PostDTO>> scheduled = postService.schedulePost(created.getId(),
+                LocalDateTime.now().plusDays(1).toString());
+
+        assertEquals(HttpStatus.CONFLICT, scheduled.getStatusCode());
+        Post stored = postRepository.findById(created.getId()).orElseThrow();
+        assertEquals(PostStatus.DRAFT, stored.getStatus());
+        assertEquals("Changed elsewhere", stored.getContent());
+    }
+
+    private static PostDTO draft(String content) {
+        return PostDTO.builder()
+                .title("Title")
+                .content(content)
+                .targetPlatforms(Set.of(Platform.FACEBOOK))
+                .build();
+    }
+
+    private static PostDTO edit(PostDTO post, String content) {
+        PostDTO edited = draft(content);
+        edited.setVersion(post.getVersion());
+        return edited;
+    }
+
+    private static PostDTO body(ResponseEntity<BaseApiResponse<PostDTO>> response) {
+        assertEquals(HttpStatus.OK, response.getStatusCode(), () -> response.getBody().getMessage());
+        return response.getBody().getData();
+    }
+}
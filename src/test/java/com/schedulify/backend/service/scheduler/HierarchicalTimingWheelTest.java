@@ -0,0 +1,122 @@
+package com.schedulify.backend.service.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+
+    // 10 ms ticks, 4 slots, 3 levels: levels span 40, 160 and 640 ms
+    private static final long TICK = 10;
+
+    private final HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 4, 3, 0);
+
+    @Test
+    void keyExpiresOnTheTickOfItsDeadline() {
+        wheel.schedule("a", 25);
+
+        assertEquals(List.of(), wheel.advance(29));
+        assertEquals(List.of("a"), wheel.advance(30));
+        assertFalse(wheel.contains("a"));
+    }
+
+    @Test
+    void keysOnHigherLevelsCascadeDownInDeadlineOrder() {
+        wheel.schedule("late", 500);
+        wheel.schedule("middle", 150);
+        wheel.schedule("early", 30);
+
+        assertEquals(List.of("early"), wheel.advance(140));
+        assertEquals(List.of(), wheel.advance(149));
+        assertEquals(List.of("middle"), wheel.advance(150));
+        assertEquals(List.of(), wheel.advance(490));
+        assertEquals(List.of("late"), wheel.advance(500));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void keysExpiringInOneAdvanceAreReturnedInDeadlineOrder() {
+        wheel.schedule("c", 300);
+        wheel.schedule("a", 20);
+        wheel.schedule("b", 90);
+
+        assertEquals(List.of("a", "b", "c"), wheel.advance(1000));
+    }
+
+    @Test
+    void reschedulingReplacesTheDeadline() {
+        wheel.schedule("a", 400);
+        wheel.schedule("a", 20);
+
+        assertEquals(List.of("a"), wheel.advance(20));
+        assertEquals(List.of(), wheel.advance(1000));
+    }
+
+    @Test
+    void cancelledKeysNeverExpire() {
+        wheel.schedule("a", 200);
+
+        assertTrue(wheel.cancel("a"));
+        assertFalse(wheel.cancel("a"));
+        assertEquals(List.of(), wheel.advance(1000));
+    }
+
+    @Test
+    void pastDeadlinesExpireOnTheNextTick() {
+        wheel.advance(100);
+        wheel.schedule("a", 50);
+
+        assertEquals(List.of(), wheel.advance(100));
+        assertEquals(List.of("a"), wheel.advance(110));
+    }
+
+    @Test
+    void deadlinesBeyondTheOutermostLevelExpireOnTime() {
+        wheel.schedule("far", 2000);
+
+        assertEquals(List.of(), wheel.advance(1990));
+        assertEquals(List.of("far"), wheel.advance(2000));
+    }
+
+    @Test
+    void matchesAReferenceScheduleUnderRandomOperations() {
+        Random random = new Random(42);
+        Map<String, Long> deadlines = new HashMap<>();
+        long now = 0;
+        for (int step = 0; step < 5000; step++) {
+            String key = "k" + random.nextInt(50);
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    long deadline = now + random.nextInt(3000) - 100;
+                    wheel.schedule(key, deadline);
+                    long tick = Math.floorDiv(deadline + TICK - 1, TICK);
+                    deadlines.put(key, Math.max(tick, now / TICK + 1) * TICK);
+                }
+                case 1 -> assertEquals(deadlines.remove(key) != null, wheel.cancel(key));
+                default -> {
+                    now += random.nextInt(60);
+                    long until = now;
+                    List<String> expected = new ArrayList<>();
+                    deadlines.entrySet().stream()
+                            .filter(entry -> entry.getValue() <= until)
+                            .sorted(Map.Entry.comparingByValue())
+                            .forEach(entry -> expected.add(entry.getKey()));
+                    List<String> expired = wheel.advance(now);
+                    assertEquals(expected.size(), expired.size(), "at " + now);
+                    assertEquals(expected.stream().map(deadlines::get).toList(),
+                            expired.stream().map(deadlines::get).toList(), "at " + now);
+                    expired.forEach(deadlines::remove);
+                }
+            }
+            assertEquals(deadlines.size(), wheel.size());
+        }
+    }
+}
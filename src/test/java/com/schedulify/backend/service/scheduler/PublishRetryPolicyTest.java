@@ -0,0 +1,132 @@
+package com.schedulify.backend.service.scheduler;
+
+import com.schedulify.backend.exception.CircuitOpenException;
+import com.schedulify.backend.model.entity.PlatformPost;
+import com.schedulify.backend.model.enums.Platform;
+import com.schedulify.backend.model.enums.PostStatus;
+import com.schedulify.backend.service.socialmedia.PlatformCircuitBreakers;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.net.SocketTimeoutException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PublishRetryPolicyTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    private final PlatformCircuitBreakers circuitBreakers = mock(PlatformCircuitBreakers.class);
+
+    // 3 attempts, backoff of 1 s doubling up to 5 s
+    private final PublishRetryPolicy policy = new PublishRetryPolicy(circuitBreakers, 3, 1000, 5000, CLOCK);
+
+    @Test
+    void backoffDoublesWithJitterUpToTheMaximumDelay() {
+        long[] caps = {1000, 2000, 4000, 5000, 5000};
+        for (int attempt = 1; attempt <= caps.length; attempt++) {
+            for (int sample = 0; sample < 200; sample++) {
+                long delay = policy.backoff(attempt).toMillis();
+                assertTrue(delay >= caps[attempt - 1] / 2 && delay <= caps[attempt - 1],
+                        "attempt " + attempt + " waited " + delay + " ms");
+            }
+        }
+    }
+
+    @Test
+    void backoffDoesNotOverflowForLargeAttemptCounts() {
+        assertTrue(policy.backoff(Integer.MAX_VALUE).toMillis() <= 5000);
+    }
+
+    @Test
+    void aTransientFailureIsRescheduled() {
+        PlatformPost platformPost = failed(HttpServerErrorException.class, 0);
+
+        policy.recordAttempt(platformPost);
+
+        assertEquals(1, platformPost.getAttemptCount());
+        assertBetween(NOW.plus(Duration.ofMillis(500)), NOW.plus(Duration.ofMillis(1000)), platformPost.getNextAttemptAt());
+    }
+
+    @Test
+    void theLastAttemptIsNotRescheduled() {
+        PlatformPost platformPost = failed(HttpServerErrorException.class, 2);
+
+        policy.recordAttempt(platformPost);
+
+        assertEquals(3, platformPost.getAttemptCount());
+        assertNull(platformPost.getNextAttemptAt());
+    }
+
+    @Test
+    void permanentFailuresAndUnknownOutcomesAreNotRescheduled() {
+        for (Class<? extends Throwable> error : List.of(
+                HttpClientErrorException.BadRequest.class, SocketTimeoutException.class)) {
+            PlatformPost platformPost = failed(error, 0);
+
+            policy.recordAttempt(platformPost);
+
+            assertEquals(1, platformPost.getAttemptCount());
+            assertNull(platformPost.getNextAttemptAt(), error.getName());
+        }
+    }
+
+    @Test
+    void aSuccessClearsThePendingRetry() {
+        PlatformPost platformPost = failed(HttpServerErrorException.class, 1);
+        platformPost.setStatus(PostStatus.PUBLISHED);
+        platformPost.setNextAttemptAt(NOW);
+
+        policy.recordAttempt(platformPost);
+
+        assertEquals(2, platformPost.getAttemptCount());
+        assertNull(platformPost.getNextAttemptAt());
+    }
+
+    @Test
+    void aShortCircuitedCallUsesNoAttemptAndWaitsForTheCircuitToClose() {
+        when(circuitBreakers.remainingOpen(Platform.FACEBOOK)).thenReturn(Duration.ofMinutes(1));
+        PlatformPost platformPost = failed(CircuitOpenException.class, 2);
+
+        policy.recordAttempt(platformPost);
+
+        assertEquals(2, platformPost.getAttemptCount());
+        assertBetween(NOW.plusSeconds(60).plus(Duration.ofMillis(500)), NOW.plusSeconds(61), platformPost.getNextAttemptAt());
+    }
+
+    @Test
+    void aShortCircuitedCallKeepsItsBackoffWhenTheCircuitClosesSooner() {
+        when(circuitBreakers.remainingOpen(Platform.FACEBOOK)).thenReturn(Duration.ZERO);
+        PlatformPost platformPost = failed(CircuitOpenException.class, 0);
+
+        policy.recordAttempt(platformPost);
+
+        assertFalse(platformPost.getNextAttemptAt().isBefore(NOW.plus(Duration.ofMillis(500))));
+    }
+
+    private static PlatformPost failed(Class<? extends Throwable> error, int attempts) {
+        PlatformPost platformPost = new PlatformPost();
+        platformPost.setPlatform(Platform.FACEBOOK);
+        platformPost.setStatus(PostStatus.FAILED);
+        platformPost.setLastErrorClass(error.getName());
+        platformPost.setAttemptCount(attempts);
+        return platformPost;
+    }
+
+    private static void assertBetween(LocalDateTime from, LocalDateTime to, LocalDateTime actual) {
+        assertTrue(!actual.isBefore(from) && !actual.isAfter(to), actual + " not in [" + from + ", " + to + "]");
+    }
+}
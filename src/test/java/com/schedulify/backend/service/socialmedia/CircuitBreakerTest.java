@@ -0,0 +1,137 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.service.socialmedia.CircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    private static final Duration OPEN = Duration.ofSeconds(30);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<String> transitions = new ArrayList<>();
+
+    // Window of 4 calls, at least 4 buffered, opens at 50% failures, 2 probes
+    private final CircuitBreaker breaker = new CircuitBreaker(4, 4, 50, OPEN, 2,
+            (from, to) -> transitions.add(from + "->" + to), clock::get);
+
+    @Test
+    void staysClosedUntilTheMinimumNumberOfCallsIsBuffered() {
+        fail(3);
+
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(100, breaker.failureRate());
+    }
+
+    @Test
+    void opensWhenTheFailureRateReachesTheThreshold() {
+        succeed(2);
+        fail(2);
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(OPEN, breaker.remainingOpen());
+        assertEquals(List.of("CLOSED->OPEN"), transitions);
+    }
+
+    @Test
+    void onlyTheLastCallsOfTheWindowCount() {
+        fail(1);
+        succeed(4);
+        fail(1);
+
+        assertEquals(4, breaker.bufferedCalls());
+        assertEquals(25, breaker.failureRate());
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void letsProbesThroughOnceTheOpenDurationHasPassed() {
+        fail(4);
+        clock.addAndGet(OPEN.toNanos() - 1);
+        assertFalse(breaker.tryAcquire());
+
+        clock.addAndGet(1);
+
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire(), "only two probes may be in flight");
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertEquals(Duration.ZERO, breaker.remainingOpen());
+    }
+
+    @Test
+    void closesWithAFreshWindowWhenAllProbesSucceed() {
+        fail(4);
+        clock.addAndGet(OPEN.toNanos());
+
+        breaker.tryAcquire();
+        breaker.onSuccess();
+        breaker.tryAcquire();
+        breaker.onSuccess();
+
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.bufferedCalls());
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), transitions);
+    }
+
+    @Test
+    void reopensWhenAProbeFails() {
+        fail(4);
+        clock.addAndGet(OPEN.toNanos());
+
+        breaker.tryAcquire();
+        breaker.onSuccess();
+        breaker.tryAcquire();
+        breaker.onFailure();
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(OPEN, breaker.remainingOpen());
+    }
+
+    @Test
+    void aReleasedProbeFreesItsSlot() {
+        fail(4);
+        clock.addAndGet(OPEN.toNanos());
+        breaker.tryAcquire();
+        breaker.tryAcquire();
+
+        breaker.release();
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(State.HALF_OPEN, breaker.getState());
+    }
+
+    @Test
+    void lateResultsWhileOpenAreIgnored() {
+        fail(4);
+
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(List.of("CLOSED->OPEN"), transitions);
+    }
+
+    private void succeed(int calls) {
+        for (int i = 0; i < calls; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onSuccess();
+        }
+    }
+
+    private void fail(int calls) {
+        for (int i = 0; i < calls; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+    }
+}
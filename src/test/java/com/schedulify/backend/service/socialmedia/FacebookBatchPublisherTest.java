@@ -0,0 +1,230 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schedulify.backend.exception.FacebookGraphException;
+import com.schedulify.backend.exception.PublishOutcomeUnknownException;
+import com.schedulify.backend.service.socialmedia.graph.GraphPostResponse;
+import com.schedulify.backend.service.socialmedia.graph.GraphResponseParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FacebookBatchPublisherTest {
+
+    private static final String GRAPH_URL = "https://graph.test";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FakeFormClient httpClient = new FakeFormClient();
+    private FacebookBatchPublisher publisher;
+
+    @AfterEach
+    void shutDown() {
+        if (publisher != null) {
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    void concurrentCallsAreSentAsOneBatchAuthenticatedAsTheApp() throws Exception {
+        publisher = publisher(true, 2);
+
+        publish("page-1", "Hello");
+        publish("page-2", "World");
+
+        assertEquals(1, httpClient.requests.size());
+        Request batch = httpClient.requests.get(0);
+        assertEquals(GRAPH_URL, batch.url());
+        assertEquals("app-id|app-secret", batch.form().getFirst("access_token"));
+        List<Map<String, String>> operations = objectMapper.readValue(batch.form().getFirst("batch"),
+                new TypeReference<>() { });
+        assertEquals(List.of(
+                Map.of("method", "POST", "relative_url", "v19.0/page-1/feed",
+                        "body", "message=Hello&access_token=token-page-1"),
+                Map.of("method", "POST", "relative_url", "v19.0/page-2/feed",
+                        "body", "message=World&access_token=token-page-2")), operations);
+    }
+
+    @Test
+    void eachCallerGetsTheResponseOfItsOwnOperation() {
+        publisher = publisher(true, 3);
+        CompletableFuture<GraphPostResponse> published = publish("page-1", "Hello");
+        CompletableFuture<GraphPostResponse> rejected = publish("page-2", "World");
+        CompletableFuture<GraphPostResponse> skipped = publish("page-3", "Again");
+
+        httpClient.requests.get(0).respond("""
+                [{"code": 200, "body": "{\\"id\\": \\"page-1_42\\"}"},
+                 {"code": 400, "body": "{\\"error\\": {\\"message\\": \\"Invalid token\\", \\"code\\": 190}}"},
+                 null]""");
+
+        assertEquals("page-1_42", published.join().id());
+        FacebookGraphException error = assertInstanceOf(FacebookGraphException.class, causeOf(rejected));
+        assertEquals(400, error.getStatus());
+        assertEquals(190, error.getError().code());
+        assertInstanceOf(ResourceAccessException.class, causeOf(skipped));
+    }
+
+    @Test
+    void aFailedBatchGivesEveryCallerItsOwnRetryableError() {
+        publisher = publisher(true, 2);
+        CompletableFuture<GraphPostResponse> first = publish("page-1", "Hello");
+        CompletableFuture<GraphPostResponse> second = publish("page-2", "World");
+
+        httpClient.requests.get(0).fail(new ConnectException("Connection refused"));
+
+        Throwable firstError = causeOf(first);
+        Throwable secondError = causeOf(second);
+        assertInstanceOf(ResourceAccessException.class, firstError);
+        assertInstanceOf(ResourceAccessException.class, secondError);
+        assertNotSame(firstError, secondError);
+        assertTrue(PublishErrorClassifier.isRetryable(PublishErrorClassifier.errorClassOf(firstError)));
+    }
+
+    @Test
+    void anUnansweredBatchLeavesEveryOutcomeUnknown() {
+        publisher = publisher(true, 2);
+        CompletableFuture<GraphPostResponse> first = publish("page-1", "Hello");
+        CompletableFuture<GraphPostResponse> second = publish("page-2", "World");
+
+        httpClient.requests.get(0).fail(new SocketTimeoutException("Read timed out"));
+
+        assertInstanceOf(PublishOutcomeUnknownException.class, causeOf(first));
+        assertInstanceOf(PublishOutcomeUnknownException.class, causeOf(second));
+    }
+
+    @Test
+    void callersThatGaveUpAreLeftOutOfTheBatch() throws Exception {
+        publisher = publisher(true, 3);
+        publish("page-1", "Hello").cancel(true);
+        publish("page-2", "World");
+        publish("page-3", "Again");
+
+        List<Map<String, String>> operations = objectMapper.readValue(
+                httpClient.requests.get(0).form().getFirst("batch"), new TypeReference<>() { });
+        assertEquals(List.of("v19.0/page-2/feed", "v19.0/page-3/feed"),
+                operations.stream().map(operation -> operation.get("relative_url")).toList());
+    }
+
+    @Test
+    void callersAreAskedBeforeSendingOnlyWhenTheBatchLeaves() throws Exception {
+        publisher = publisher(true, 3);
+        AtomicInteger asked = new AtomicInteger();
+        CompletableFuture<GraphPostResponse> expired = publish("page-1", "Hello", () -> false);
+        publish("page-2", "World", () -> asked.incrementAndGet() > 0);
+        assertEquals(0, asked.get());
+
+        publish("page-3", "Again");
+
+        assertEquals(1, asked.get());
+        assertTrue(expired.isCancelled());
+        List<Map<String, String>> operations = objectMapper.readValue(
+                httpClient.requests.get(0).form().getFirst("batch"), new TypeReference<>() { });
+        assertEquals(List.of("v19.0/page-2/feed", "v19.0/page-3/feed"),
+                operations.stream().map(operation -> operation.get("relative_url")).toList());
+    }
+
+    @Test
+    void aBatchOfOneIsSentAsAPlainCall() {
+        publisher = publisher(true, 2);
+        CompletableFuture<GraphPostResponse> published = publish("page-1", "Hello");
+
+        publisher.shutdown();
+
+        Request request = httpClient.requests.get(0);
+        assertEquals(GRAPH_URL + "/v19.0/page-1/feed", request.url());
+        assertEquals("token-page-1", request.form().getFirst("access_token"));
+        request.respond("{\"id\": \"page-1_7\"}");
+        assertEquals("page-1_7", published.join().id());
+    }
+
+    @Test
+    void callsArePlainWhenBatchingIsDisabled() {
+        publisher = publisher(false, 2);
+
+        publish("page-1", "Hello");
+        publish("page-2", "World");
+
+        assertEquals(List.of(GRAPH_URL + "/v19.0/page-1/feed", GRAPH_URL + "/v19.0/page-2/feed"),
+                httpClient.requests.stream().map(Request::url).toList());
+    }
+
+    private FacebookBatchPublisher publisher(boolean enabled, int maxBatchSize) {
+        // A long linger, so batches only leave when full or on shutdown
+        return new FacebookBatchPublisher(httpClient, objectMapper, new SimpleMeterRegistry(), GRAPH_URL,
+                "app-id", "app-secret", enabled, maxBatchSize, 60_000);
+    }
+
+    private CompletableFuture<GraphPostResponse> publish(String pageId, String message) {
+        return publish(pageId, message, () -> true);
+    }
+
+    private CompletableFuture<GraphPostResponse> publish(String pageId, String message, BooleanSupplier beforeSend) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("message", message);
+        params.add("access_token", "token-" + pageId);
+        return publisher.postAsync("v19.0/" + pageId + "/feed", params, GraphResponseParser::readPost, beforeSend);
+    }
+
+    private static Throwable causeOf(CompletableFuture<?> future) {
+        return assertThrows(ExecutionException.class, future::get).getCause();
+    }
+
+    /**
+     * Records each POST and lets the test answer it.
+     */
+    private static final class FakeFormClient extends AsyncHttpFormClient {
+
+        private final List<Request> requests = new ArrayList<>();
+
+        private FakeFormClient() {
+            super(null, Duration.ofSeconds(1));
+        }
+
+        @Override
+        public <T> CompletableFuture<T> post(String url, MultiValueMap<String, String> form, BodyReader<T> reader) {
+            Request request = new Request(url, form, reader, new CompletableFuture<>());
+            requests.add(request);
+            return request.response().thenApply(body -> {
+                try {
+                    return reader.read(body);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+
+    private record Request(String url, MultiValueMap<String, String> form, AsyncHttpFormClient.BodyReader<?> reader,
+                           CompletableFuture<byte[]> response) {
+
+        void respond(String body) {
+            response.complete(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void fail(Throwable error) {
+            response.completeExceptionally(error);
+        }
+    }
+}
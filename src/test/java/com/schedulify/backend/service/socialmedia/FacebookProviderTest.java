@@ -0,0 +1,167 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schedulify.backend.model.entity.MediaAttachment;
+import com.schedulify.backend.model.entity.PlatformPost;
+import com.schedulify.backend.model.entity.Post;
+import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.model.enums.MediaType;
+import com.schedulify.backend.model.enums.Platform;
+import com.schedulify.backend.model.enums.PostStatus;
+import com.schedulify.backend.repository.MediaUploadRepository;
+import com.schedulify.backend.repository.SocialAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FacebookProviderTest {
+
+    private final FakeFormClient httpClient = new FakeFormClient();
+    private final PlatformPost platformPost = new PlatformPost();
+    private FacebookBatchPublisher batchPublisher;
+    private FacebookProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        // Batching off, so every upload is a request of its own
+        provider = provider(false);
+
+        SocialAccount account = new SocialAccount();
+        account.setAccountId("page-1");
+        account.setAccessToken("page-token");
+        platformPost.setPlatform(Platform.FACEBOOK);
+        platformPost.setSocialAccount(account);
+        platformPost.setPost(new Post());
+        platformPost.setPlatformContent("Hello");
+    }
+
+    @AfterEach
+    void shutDown() {
+        batchPublisher.shutdown();
+    }
+
+    @Test
+    void photosAreAttachedToOneFeedPost() {
+        CompletableFuture<PlatformPost> published = provider.doPublishPostAsync(platformPost,
+                List.of(photo("a"), photo("b"), photo("c")));
+
+        httpClient.requests.get(0).respond("{\"id\": \"photo-a\"}");
+        httpClient.requests.get(1).respond("{\"id\": \"photo-b\"}");
+        httpClient.requests.get(2).respond("{\"id\": \"photo-c\"}");
+        Request feed = httpClient.requests.get(3);
+        assertEquals("https://graph.test/v19.0/page-1/feed", feed.url());
+        assertEquals("{\"media_fbid\":\"photo-c\"}", feed.form().getFirst("attached_media[2]"));
+        feed.respond("{\"id\": \"page-1_42\"}");
+
+        assertEquals("page-1_42", published.join().getPlatformPostId());
+    }
+
+    @Test
+    void cancellingThePublishCancelsThePhotoUploads() {
+        CompletableFuture<PlatformPost> published = provider.doPublishPostAsync(platformPost,
+                List.of(photo("a"), photo("b"), photo("c")));
+        // Two lanes: the third photo waits for one of the first two
+        assertEquals(2, httpClient.requests.size());
+
+        published.cancel(true);
+
+        assertTrue(httpClient.requests.get(0).result().isCancelled());
+        assertTrue(httpClient.requests.get(1).result().isCancelled());
+        // Neither the third photo nor the feed post is sent
+        assertEquals(2, httpClient.requests.size());
+    }
+
+    @Test
+    void aPostStillInItsBatchAtTheDeadlineIsRetriedAsNotSent() {
+        // The batch lingers for a minute, well past the 50 ms deadline
+        provider = provider(true);
+        PlatformCircuitBreakers circuitBreakers = mock(PlatformCircuitBreakers.class);
+        when(circuitBreakers.tryAcquire(any())).thenReturn(true);
+        SocialMediaIntegrationService service = new SocialMediaIntegrationService(List.of(provider),
+                mock(ProviderRateLimiter.class), circuitBreakers, new ThreadPoolTaskExecutor(),
+                mock(SocialAccountRepository.class), mock(PlatformTransactionManager.class), new MockEnvironment(),
+                true, 50, 300_000);
+
+        service.publishToMultiplePlatformsAsync(platformPost.getPost(), List.of(platformPost), List.of()).join();
+        batchPublisher.shutdown();
+
+        assertEquals(PostStatus.FAILED, platformPost.getStatus());
+        assertEquals(TimeoutException.class.getName(), platformPost.getLastErrorClass());
+        assertTrue(PublishErrorClassifier.isRetryable(platformPost.getLastErrorClass()));
+        assertEquals(0, httpClient.requests.size());
+    }
+
+    private FacebookProvider provider(boolean batching) {
+        if (batchPublisher != null) {
+            batchPublisher.shutdown();
+        }
+        batchPublisher = new FacebookBatchPublisher(httpClient, new ObjectMapper(), new SimpleMeterRegistry(),
+                "https://graph.test", "app-id", "app-secret", batching, 50, 60_000);
+        LocalMediaFiles localMediaFiles = new LocalMediaFiles("uploads");
+        MediaUploadCache mediaUploadCache = new MediaUploadCache(mock(MediaUploadRepository.class),
+                new ThreadPoolTaskExecutor(), new SimpleMeterRegistry(), new MockEnvironment(), false, 0);
+        FacebookProvider facebook = new FacebookProvider(null, httpClient, batchPublisher, null, localMediaFiles,
+                mediaUploadCache, 2);
+        ReflectionTestUtils.setField(facebook, "apiVersion", "v19.0");
+        return facebook;
+    }
+
+    private static MediaAttachment photo(String name) {
+        MediaAttachment photo = new MediaAttachment();
+        photo.setMediaType(MediaType.IMAGE);
+        photo.setFileUrl("https://cdn.test/" + name + ".jpg");
+        return photo;
+    }
+
+    /**
+     * Records each POST and lets the test answer it.
+     */
+    private static final class FakeFormClient extends AsyncHttpFormClient {
+
+        private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+        private FakeFormClient() {
+            super(null, Duration.ofSeconds(1));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletableFuture<T> post(String url, MultiValueMap<String, String> form, BodyReader<T> reader) {
+            Request request = new Request(url, form, reader, new CompletableFuture<>());
+            requests.add(request);
+            return (CompletableFuture<T>) request.result();
+        }
+    }
+
+    private record Request(String url, MultiValueMap<String, String> form, AsyncHttpFormClient.BodyReader<?> reader,
+                           CompletableFuture<Object> result) {
+
+        void respond(String body) {
+            try {
+                result.complete(reader.read(body.getBytes(StandardCharsets.UTF_8)));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
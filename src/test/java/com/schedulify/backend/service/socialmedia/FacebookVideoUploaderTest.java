@@ -0,0 +1,207 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.model.entity.MediaAttachment;
+import com.schedulify.backend.model.entity.SocialAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FacebookVideoUploaderTest {
+
+    private static final String VIDEO = "0123456789";
+
+    @TempDir
+    private Path uploadDir;
+
+    private final FakeGraph graph = new FakeGraph();
+    private final SocialAccount account = new SocialAccount();
+    private final MediaAttachment attachment = new MediaAttachment();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.writeString(uploadDir.resolve("video.mp4"), VIDEO);
+        attachment.setFileUrl("/uploads/video.mp4");
+        account.setAccountId("page-1");
+        account.setAccessToken("page-token");
+    }
+
+    @Test
+    void chunksFollowTheOffsetsGraphAcknowledges() throws Exception {
+        graph.chunkAnswers.add(session(2, 6));
+        graph.chunkAnswers.add(session(6, 10));
+        graph.chunkAnswers.add(session(10, 10));
+
+        assertEquals("video-1", upload(uploader(0)).get(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of("0-4:0123", "2-6:2345", "6-10:6789"), graph.chunks);
+        assertEquals(List.of("start", "finish"), graph.phases);
+    }
+
+    @Test
+    void aFailedChunkIsResentFromTheAcknowledgedOffset() throws Exception {
+        graph.chunkAnswers.add(session(4, 8));
+        graph.chunkAnswers.add(new IOException("Connection reset"));
+        graph.chunkAnswers.add(new SocketTimeoutException("Read timed out"));
+        graph.chunkAnswers.add(session(8, 10));
+        graph.chunkAnswers.add(session(10, 10));
+
+        assertEquals("video-1", upload(uploader(2)).get(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of("0-4:0123", "4-8:4567", "4-8:4567", "4-8:4567", "8-10:89"), graph.chunks);
+    }
+
+    @Test
+    void theNextAttemptResumesAFailedUpload() throws Exception {
+        FacebookVideoUploader uploader = uploader(0);
+        graph.chunkAnswers.add(session(4, 8));
+        graph.chunkAnswers.add(new IOException("Connection reset"));
+        assertThrows(ExecutionException.class, () -> upload(uploader).get(5, TimeUnit.SECONDS));
+
+        graph.chunkAnswers.add(session(8, 10));
+        graph.chunkAnswers.add(session(10, 10));
+        assertEquals("video-1", upload(uploader).get(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of("start", "finish"), graph.phases);
+        assertEquals(List.of("0-4:0123", "4-8:4567", "4-8:4567", "8-10:89"), graph.chunks);
+    }
+
+    @Test
+    void theNextAttemptStartsOverAfterAPermanentFailure() throws Exception {
+        FacebookVideoUploader uploader = uploader(3);
+        graph.chunkAnswers.add(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "", null, null, null));
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> upload(uploader).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(HttpClientErrorException.class, error.getCause());
+
+        graph.chunkAnswers.add(session(4, 8));
+        graph.chunkAnswers.add(session(8, 10));
+        graph.chunkAnswers.add(session(10, 10));
+        assertEquals("video-1", upload(uploader).get(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of("start", "start", "finish"), graph.phases);
+        assertEquals(List.of("0-4:0123", "0-4:0123", "4-8:4567", "8-10:89"), graph.chunks);
+    }
+
+    @Test
+    void anAttemptStartedDuringAnUploadJoinsIt() throws Exception {
+        FacebookVideoUploader uploader = uploader(0);
+        CompletableFuture<byte[]> pendingChunk = new CompletableFuture<>();
+        graph.chunkAnswers.add(pendingChunk);
+
+        CompletableFuture<String> first = upload(uploader);
+        CompletableFuture<String> second = upload(uploader);
+        graph.chunkAnswers.add(session(8, 10));
+        graph.chunkAnswers.add(session(10, 10));
+        pendingChunk.complete(json(session(4, 8)));
+
+        assertSame(first, second);
+        assertEquals("video-1", second.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of("start", "finish"), graph.phases);
+    }
+
+    private FacebookVideoUploader uploader(int maxChunkRetries) {
+        // 4-byte chunks, no delay between resends
+        return new FacebookVideoUploader(graph, "https://graph-video.test", "v19.0",
+                new LocalMediaFiles(uploadDir.toString()), 4, maxChunkRetries, 0, 3_600_000);
+    }
+
+    private CompletableFuture<String> upload(FacebookVideoUploader uploader) {
+        MultiValueMap<String, String> finishParams = new LinkedMultiValueMap<>();
+        finishParams.add("description", "A video");
+        return uploader.upload(account, attachment, finishParams);
+    }
+
+    private static String session(long startOffset, long endOffset) {
+        return "{\"start_offset\": \"" + startOffset + "\", \"end_offset\": \"" + endOffset + "\"}";
+    }
+
+    private static byte[] json(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Answers the start and finish phases, and each chunk with the next scripted answer: a JSON
+     * body, an error or a future still to be completed.
+     */
+    private static final class FakeGraph extends AsyncHttpFormClient {
+
+        private final List<String> phases = new ArrayList<>();
+        private final List<String> chunks = new ArrayList<>();
+        private final Deque<Object> chunkAnswers = new ArrayDeque<>();
+
+        private FakeGraph() {
+            super(null, Duration.ofSeconds(1));
+        }
+
+        @Override
+        public synchronized <T> CompletableFuture<T> post(String url, MultiValueMap<String, String> form,
+                                                          BodyReader<T> reader) {
+            String phase = form.getFirst("upload_phase");
+            phases.add(phase);
+            String body = "start".equals(phase)
+                    ? "{\"upload_session_id\": \"session-1\", \"video_id\": \"video-1\", "
+                            + "\"start_offset\": \"0\", \"end_offset\": \"4\"}"
+                    : "{\"success\": true}";
+            return read(CompletableFuture.completedFuture(json(body)), reader);
+        }
+
+        @Override
+        public synchronized <T> CompletableFuture<T> postFileChunk(String url, MultiValueMap<String, String> fields,
+                                                                   String fileField, String filename,
+                                                                   FileChannel file, long offset, long length,
+                                                                   BodyReader<T> reader) {
+            ByteBuffer content = ByteBuffer.allocate((int) length);
+            try {
+                file.read(content, offset);
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+            chunks.add(offset + "-" + (offset + length) + ":" + new String(content.array(), StandardCharsets.UTF_8));
+
+            Object answer = chunkAnswers.poll();
+            if (answer instanceof Throwable error) {
+                return CompletableFuture.failedFuture(error);
+            }
+            @SuppressWarnings("unchecked")
+            CompletableFuture<byte[]> response = answer instanceof CompletableFuture<?> pending
+                    ? (CompletableFuture<byte[]>) pending
+                    : CompletableFuture.completedFuture(json((String) answer));
+            return read(response, reader);
+        }
+
+        private static <T> CompletableFuture<T> read(CompletableFuture<byte[]> response, BodyReader<T> reader) {
+            return response.thenApply(body -> {
+                try {
+                    return reader.read(body);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.model.entity.MediaAttachment;
+import com.schedulify.backend.model.entity.MediaUpload;
+import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.model.enums.Platform;
+import com.schedulify.backend.repository.MediaUploadRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class MediaUploadCacheTest {
+
+    private static final long DEFAULT_TTL = Duration.ofDays(1).toMillis();
+
+    private final MediaUploadRepository repository = mock(MediaUploadRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SocialAccount account = new SocialAccount();
+
+    // Instagram keeps its uploads for an hour only
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("social.instagram.media-cache.ttl", String.valueOf(Duration.ofHours(1).toMillis()));
+
+    @BeforeEach
+    void setUp() {
+        account.setId(7L);
+    }
+
+    @Test
+    void contentKeyIsTheContentHashOrAHashOfTheUrl() {
+        MediaAttachment hashed = attachment("abc", "/uploads/a.jpg");
+        MediaAttachment first = attachment(null, "/uploads/a.jpg");
+        MediaAttachment second = attachment(null, "/uploads/b.jpg");
+
+        assertEquals("abc", MediaUploadCache.contentKey(hashed));
+        assertEquals(64, MediaUploadCache.contentKey(first).length());
+        assertEquals(MediaUploadCache.contentKey(first), MediaUploadCache.contentKey(attachment(null, "/uploads/a.jpg")));
+        assertNotEquals(MediaUploadCache.contentKey(first), MediaUploadCache.contentKey(second));
+    }
+
+    @Test
+    void findReturnsTheMediaIdsOfCachedContentAndCountsHitsAndMisses() {
+        when(repository.findValid(eq(7L), eq(Platform.FACEBOOK), any(), any()))
+                .thenReturn(List.of(upload("abc", "media-1")));
+
+        Map<String, String> found = cache(true, inline()).find(account, Platform.FACEBOOK,
+                List.of(attachment("abc", "/uploads/a.jpg"), attachment("abc", "/uploads/a2.jpg"),
+                        attachment("def", "/uploads/b.jpg")));
+
+        assertEquals(Map.of("abc", "media-1"), found);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> keys = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).findValid(eq(7L), eq(Platform.FACEBOOK), keys.capture(), any());
+        assertEquals(List.of("abc", "def"), List.copyOf(keys.getValue()));
+        assertEquals(1, lookups("hit"));
+        assertEquals(1, lookups("miss"));
+    }
+
+    @Test
+    void aFailedLookupIsAMissNotAnError() {
+        when(repository.findValid(any(), any(), any(), any()))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        assertEquals(Map.of(), cache(true, inline()).find(account, Platform.FACEBOOK,
+                List.of(attachment("abc", "/uploads/a.jpg"))));
+    }
+
+    @Test
+    void putUsesThePlatformTtl() {
+        MediaUploadCache cache = cache(true, inline());
+
+        cache.put(account, Platform.FACEBOOK, attachment("abc", "/uploads/a.jpg"), "media-1");
+        cache.put(account, Platform.INSTAGRAM, attachment("abc", "/uploads/a.jpg"), "media-2");
+
+        assertEquals(Duration.ofMillis(DEFAULT_TTL), storedTtl("media-1"));
+        assertEquals(Duration.ofHours(1), storedTtl("media-2"));
+    }
+
+    @Test
+    void evictDeletesTheRejectedMediaIds() {
+        cache(true, inline()).evict(account, Platform.FACEBOOK, List.of("media-1", "media-2"));
+
+        verify(repository).deleteByMediaIds(7L, Platform.FACEBOOK, List.of("media-1", "media-2"));
+        assertEquals(2, meterRegistry.counter("schedulify.media-cache.evictions", "platform", "FACEBOOK").count());
+    }
+
+    @Test
+    void writesAreDroppedWhenThePoolIsFullOrTheyFail() {
+        cache(true, rejecting()).put(account, Platform.FACEBOOK, attachment("abc", "/uploads/a.jpg"), "media-1");
+        verifyNoInteractions(repository);
+
+        doThrow(new DataAccessResourceFailureException("Connection refused"))
+                .when(repository).deleteByMediaIds(any(), any(), any());
+        cache(true, inline()).evict(account, Platform.FACEBOOK, List.of("media-1"));
+        verify(repository).deleteByMediaIds(7L, Platform.FACEBOOK, List.of("media-1"));
+    }
+
+    @Test
+    void aDisabledCacheNeverTouchesTheDatabase() {
+        MediaUploadCache cache = cache(false, inline());
+        MediaAttachment attachment = attachment("abc", "/uploads/a.jpg");
+
+        assertEquals(Map.of(), cache.find(account, Platform.FACEBOOK, List.of(attachment)));
+        cache.put(account, Platform.FACEBOOK, attachment, "media-1");
+        cache.evict(account, Platform.FACEBOOK, List.of("media-1"));
+        cache.purgeExpired();
+
+        verifyNoInteractions(repository);
+    }
+
+    private MediaUploadCache cache(boolean enabled, ThreadPoolTaskExecutor executor) {
+        return new MediaUploadCache(repository, executor, meterRegistry, environment, enabled, DEFAULT_TTL);
+    }
+
+    private Duration storedTtl(String mediaId) {
+        ArgumentCaptor<LocalDateTime> expiresAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).upsert(eq("abc"), eq(7L), anyString(), eq(mediaId), expiresAt.capture(), now.capture());
+        return Duration.between(now.getValue(), expiresAt.getValue());
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.counter("schedulify.media-cache.lookups", "platform", "FACEBOOK", "result", result).count();
+    }
+
+    private static MediaAttachment attachment(String contentHash, String fileUrl) {
+        MediaAttachment attachment = new MediaAttachment();
+        attachment.setContentHash(contentHash);
+        attachment.setFileUrl(fileUrl);
+        return attachment;
+    }
+
+    private static MediaUpload upload(String contentHash, String mediaId) {
+        MediaUpload upload = new MediaUpload();
+        upload.setContentHash(contentHash);
+        upload.setMediaId(mediaId);
+        return upload;
+    }
+
+    private static ThreadPoolTaskExecutor inline() {
+        return new ThreadPoolTaskExecutor() {
+            @Override
+            public void execute(Runnable task) {
+                task.run();
+            }
+        };
+    }
+
+    private static ThreadPoolTaskExecutor rejecting() {
+        return new ThreadPoolTaskExecutor() {
+            @Override
+            public void execute(Runnable task) {
+                throw new TaskRejectedException("Publish pool is full");
+            }
+        };
+    }
+}
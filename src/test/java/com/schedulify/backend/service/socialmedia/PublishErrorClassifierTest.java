@@ -0,0 +1,94 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.exception.CircuitOpenException;
+import com.schedulify.backend.exception.PublishOutcomeUnknownException;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublishErrorClassifierTest {
+
+    @Test
+    void errorClassIsTheMostSpecificTransportErrorInTheChain() {
+        Throwable error = new CompletionException(new RuntimeException("Publish failed",
+                new HttpServerErrorException(HttpStatus.BAD_GATEWAY)));
+
+        assertEquals(HttpServerErrorException.class.getName(), PublishErrorClassifier.errorClassOf(error));
+    }
+
+    @Test
+    void errorClassIsTheRootCauseWhenNothingIsSignificant() {
+        Throwable error = new RuntimeException(new IllegalStateException("No page token"));
+
+        assertEquals(IllegalStateException.class.getName(), PublishErrorClassifier.errorClassOf(error));
+    }
+
+    @Test
+    void aSocketTimeoutBelowAnIoErrorDecidesTheErrorClass() {
+        Throwable error = new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out"));
+
+        assertEquals(SocketTimeoutException.class.getName(), PublishErrorClassifier.errorClassOf(error));
+    }
+
+    @Test
+    void transientErrorsAreRetryable() {
+        assertRetryable(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+        assertRetryable(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null));
+        assertRetryable(new ResourceAccessException("Connection reset", new IOException("Connection reset")));
+        assertRetryable(new TimeoutException("Timed out before sending"));
+        assertRetryable(new CircuitOpenException("FACEBOOK circuit is open"));
+        assertRetryable(new ConnectTimeoutException("Connect timed out"));
+    }
+
+    @Test
+    void clientErrorsAreNotRetryable() {
+        String errorClass = PublishErrorClassifier.errorClassOf(
+                HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "", null, null, null));
+
+        assertFalse(PublishErrorClassifier.isRetryable(errorClass));
+        assertFalse(PublishErrorClassifier.isOutcomeUnknown(errorClass));
+    }
+
+    @Test
+    void unansweredRequestsHaveAnUnknownOutcomeAndAreNotRetried() {
+        for (Throwable error : new Throwable[]{
+                new SocketTimeoutException("Read timed out"),
+                new PublishOutcomeUnknownException("No answer within 30000 ms")}) {
+            String errorClass = PublishErrorClassifier.errorClassOf(new RuntimeException(error));
+
+            assertTrue(PublishErrorClassifier.isOutcomeUnknown(errorClass), errorClass);
+            assertFalse(PublishErrorClassifier.isRetryable(errorClass), errorClass);
+        }
+    }
+
+    @Test
+    void aConnectTimeoutSentNothing() {
+        String errorClass = PublishErrorClassifier.errorClassOf(new ConnectTimeoutException("Connect timed out"));
+
+        assertFalse(PublishErrorClassifier.isOutcomeUnknown(errorClass));
+    }
+
+    @Test
+    void missingOrUnknownErrorClassesAreNotRetryable() {
+        assertFalse(PublishErrorClassifier.isRetryable(null));
+        assertFalse(PublishErrorClassifier.isRetryable("com.example.Gone"));
+        assertFalse(PublishErrorClassifier.isOutcomeUnknown(null));
+    }
+
+    private static void assertRetryable(Throwable error) {
+        String errorClass = PublishErrorClassifier.errorClassOf(error);
+        assertTrue(PublishErrorClassifier.isRetryable(errorClass), errorClass);
+    }
+}
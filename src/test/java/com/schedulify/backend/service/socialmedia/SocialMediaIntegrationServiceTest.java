@@ -0,0 +1,196 @@
+package com.schedulify.backend.service.socialmedia;
+
+import com.schedulify.backend.model.entity.SocialAccount;
+import com.schedulify.backend.model.enums.Platform;
+import com.schedulify.backend.repository.SocialAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Single-flight token refreshes of {@link SocialMediaIntegrationService}.
+ */
+class SocialMediaIntegrationServiceTest {
+
+    private static final LocalDateTime EXPIRY = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+    private final SocialAccountRepository repository = mock(SocialAccountRepository.class);
+    private final List<SocialAccount> refreshed = new CopyOnWriteArrayList<>();
+    private final List<CompletableFuture<SocialAccount>> calls = new CopyOnWriteArrayList<>();
+    private SocialMediaIntegrationService service;
+
+    @BeforeEach
+    void setUp() {
+        SocialMediaProvider provider = mock(SocialMediaProvider.class,
+                withSettings().extraInterfaces(AsyncSocialMediaProvider.class));
+        when(provider.getPlatformType()).thenReturn(Platform.FACEBOOK);
+        when(((AsyncSocialMediaProvider) provider).refreshTokenAsync(any())).thenAnswer(invocation -> {
+            refreshed.add(invocation.getArgument(0));
+            CompletableFuture<SocialAccount> call = new CompletableFuture<>();
+            calls.add(call);
+            return call;
+        });
+        when(repository.replaceToken(any(), any(), any(), any(), any(), any())).thenReturn(1);
+
+        // The publish pool runs the token write inline; the rate limiter grants every permit at once
+        service = new SocialMediaIntegrationService(List.of(provider), mock(ProviderRateLimiter.class),
+                mock(PlatformCircuitBreakers.class), inline(), repository, mock(PlatformTransactionManager.class),
+                new MockEnvironment(), true, 20_000, 300_000);
+    }
+
+    @Test
+    void concurrentRefreshesShareOneCallAndUpdateEveryCallersAccount() throws Exception {
+        SocialAccount first = account("old-token");
+        SocialAccount second = account("old-token");
+
+        CompletableFuture<SocialAccount> firstRefresh = service.refreshTokenAsync(first);
+        CompletableFuture<SocialAccount> secondRefresh = service.refreshTokenAsync(second);
+        calls.get(0).complete(token(refreshed.get(0), "new-token"));
+
+        assertEquals(1, calls.size());
+        assertSame(first, firstRefresh.get(1, TimeUnit.SECONDS));
+        assertSame(second, secondRefresh.get(1, TimeUnit.SECONDS));
+        assertEquals("new-token", first.getAccessToken());
+        assertEquals("new-token", second.getAccessToken());
+        assertEquals(EXPIRY, second.getTokenExpiryDate());
+        verify(repository, times(1)).replaceToken(eq(7L), eq("old-token"), eq("new-token"), anyString(),
+                eq(EXPIRY), any());
+    }
+
+    @Test
+    void theProviderRefreshesACopyOfTheAccount() {
+        SocialAccount account = account("old-token");
+
+        service.refreshTokenAsync(account);
+
+        assertNotSame(account, refreshed.get(0));
+        assertEquals("old-token", refreshed.get(0).getAccessToken());
+    }
+
+    @Test
+    void aRefreshAfterTheFlightLandedStartsANewOne() throws Exception {
+        service.refreshTokenAsync(account("old-token"));
+        calls.get(0).complete(token(refreshed.get(0), "new-token"));
+
+        CompletableFuture<SocialAccount> next = service.refreshTokenAsync(account("new-token"));
+        calls.get(1).complete(token(refreshed.get(1), "newer-token"));
+
+        assertEquals(2, calls.size());
+        assertEquals("newer-token", next.get(1, TimeUnit.SECONDS).getAccessToken());
+    }
+
+    @Test
+    void aFailureIsSharedByTheWaitingCallersAndEndsTheFlight() {
+        CompletableFuture<SocialAccount> first = service.refreshTokenAsync(account("old-token"));
+        CompletableFuture<SocialAccount> second = service.refreshTokenAsync(account("old-token"));
+
+        calls.get(0).completeExceptionally(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "", null, null, null));
+
+        assertInstanceOf(HttpClientErrorException.class, assertThrows(ExecutionException.class, first::get).getCause());
+        assertInstanceOf(HttpClientErrorException.class, assertThrows(ExecutionException.class, second::get).getCause());
+        verify(repository, never()).replaceToken(any(), any(), any(), any(), any(), any());
+
+        service.refreshTokenAsync(account("old-token"));
+        assertEquals(2, calls.size());
+    }
+
+    @Test
+    void aTokenStoredDuringTheRefreshWins() throws Exception {
+        when(repository.replaceToken(any(), any(), any(), any(), any(), any())).thenReturn(0);
+        SocialAccount stored = account("reauthenticated-token");
+        when(repository.findById(7L)).thenReturn(Optional.of(stored));
+        SocialAccount account = account("old-token");
+
+        CompletableFuture<SocialAccount> refresh = service.refreshTokenAsync(account);
+        calls.get(0).complete(token(refreshed.get(0), "new-token"));
+
+        assertEquals("reauthenticated-token", refresh.get(1, TimeUnit.SECONDS).getAccessToken());
+    }
+
+    @Test
+    void callersRacingFromManyThreadsShareOneCall() throws Exception {
+        int callers = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<CompletableFuture<SocialAccount>>> refreshes = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                refreshes.add(executor.submit(() -> {
+                    start.await();
+                    return service.refreshTokenAsync(account("old-token"));
+                }));
+            }
+            start.countDown();
+            List<CompletableFuture<SocialAccount>> results = new ArrayList<>();
+            for (Future<CompletableFuture<SocialAccount>> refresh : refreshes) {
+                results.add(refresh.get(5, TimeUnit.SECONDS));
+            }
+
+            assertEquals(1, calls.size());
+            calls.get(0).complete(token(refreshed.get(0), "new-token"));
+            for (CompletableFuture<SocialAccount> result : results) {
+                assertEquals("new-token", result.get(1, TimeUnit.SECONDS).getAccessToken());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static SocialAccount account(String accessToken) {
+        SocialAccount account = new SocialAccount();
+        account.setId(7L);
+        account.setPlatform(Platform.FACEBOOK);
+        account.setAccountId("page-1");
+        account.setAccountName("Page");
+        account.setAccessToken(accessToken);
+        account.setRefreshToken("refresh-token");
+        return account;
+    }
+
+    private static SocialAccount token(SocialAccount copy, String accessToken) {
+        copy.setAccessToken(accessToken);
+        copy.setTokenExpiryDate(EXPIRY);
+        return copy;
+    }
+
+    private static ThreadPoolTaskExecutor inline() {
+        return new ThreadPoolTaskExecutor() {
+            @Override
+            public void execute(Runnable task) {
+                task.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package com.schedulify.backend.service.socialmedia;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenBucketTest {
+
+    // 10 permits per second: one every 100 ms
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long NO_LIMIT = Long.MAX_VALUE;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void burstIsGrantedWithoutWaitingThenPermitsAreSpacedByTheInterval() {
+        TokenBucket bucket = new TokenBucket(10, 3, clock::get);
+
+        assertEquals(0, bucket.reserve(NO_LIMIT));
+        assertEquals(0, bucket.reserve(NO_LIMIT));
+        assertEquals(0, bucket.reserve(NO_LIMIT));
+        assertEquals(INTERVAL, bucket.reserve(NO_LIMIT));
+        assertEquals(2 * INTERVAL, bucket.reserve(NO_LIMIT));
+    }
+
+    @Test
+    void idleTimeRefillsTheBucketUpToTheBurst() {
+        TokenBucket bucket = new TokenBucket(10, 2, clock::get);
+        bucket.reserve(NO_LIMIT);
+        bucket.reserve(NO_LIMIT);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertEquals(0, bucket.reserve(NO_LIMIT));
+        assertEquals(0, bucket.reserve(NO_LIMIT));
+        assertEquals(INTERVAL, bucket.reserve(NO_LIMIT));
+    }
+
+    @Test
+    void waitingIsShortenedByTheElapsedTime() {
+        TokenBucket bucket = new TokenBucket(10, 1, clock::get);
+        bucket.reserve(NO_LIMIT);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(40));
+
+        assertEquals(INTERVAL - TimeUnit.MILLISECONDS.toNanos(40), bucket.reserve(NO_LIMIT));
+    }
+
+    @Test
+    void aWaitLongerThanAcceptedReservesNothing() {
+        TokenBucket bucket = new TokenBucket(10, 1, clock::get);
+        bucket.reserve(NO_LIMIT);
+
+        assertEquals(-1, bucket.reserve(INTERVAL - 1));
+        assertEquals(-1, bucket.reserve(0));
+        assertEquals(INTERVAL, bucket.reserve(INTERVAL));
+    }
+
+    @Test
+    void concurrentReservationsEachGetTheirOwnSlot() throws Exception {
+        TokenBucket bucket = new TokenBucket(10, 1, clock::get);
+        int callers = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Long>> reservations = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                reservations.add(() -> bucket.reserve(NO_LIMIT));
+            }
+            List<Long> waits = new ArrayList<>();
+            for (Future<Long> wait : executor.invokeAll(reservations)) {
+                waits.add(wait.get());
+            }
+
+            // With the clock standing still every permit lands one interval after the previous one
+            assertEquals(LongStream.range(0, callers).map(i -> i * INTERVAL).boxed().toList(),
+                    waits.stream().sorted().toList());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
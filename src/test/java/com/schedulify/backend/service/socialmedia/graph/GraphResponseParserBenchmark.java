@@ -0,0 +1,60 @@
+package com.schedulify.backend.service.socialmedia.graph;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schedulify.backend.support.MicroBenchmark.Result;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static com.schedulify.backend.support.MicroBenchmark.measure;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the streaming Graph parsers with binding the body to a {@code Map} and casting,
+ * for a publish response and a token refresh response. Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+class GraphResponseParserBenchmark {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private static final byte[] POST_RESPONSE = """
+            {"id":"104729485729471_122103948576","post_id":"104729485729471_122103948576",\
+            "paging":{"cursors":{"before":"QVFIU","after":"QVFIU"}},"extra":[1,2,3]}"""
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TOKEN_RESPONSE = """
+            {"access_token":"EAAJZCZBgZDZD1234567890abcdefghijklmnopqrstuvwxyz","token_type":"bearer",\
+            "expires_in":5183944}""".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void publishResponse() throws Exception {
+        assertEquals(objectMapper.readValue(POST_RESPONSE, Map.class).get("id"),
+                GraphResponseParser.readPost(POST_RESPONSE).id());
+
+        Result map = measure("map    /post", WARMUP, ITERATIONS, () -> (String) objectMapper.readValue(POST_RESPONSE, Map.class).get("id"));
+        Result typed = measure("stream /post", WARMUP, ITERATIONS, () -> GraphResponseParser.readPost(POST_RESPONSE).id());
+        assertTrue(typed.bytesPerOp() < map.bytesPerOp(), "streaming parser should allocate less");
+    }
+
+    @Test
+    void tokenResponse() throws Exception {
+        assertEquals(((Number) objectMapper.readValue(TOKEN_RESPONSE, Map.class).get("expires_in")).longValue(),
+                GraphResponseParser.readToken(TOKEN_RESPONSE).expiresIn());
+
+        Result map = measure("map    /token", WARMUP, ITERATIONS, () -> {
+            Map<?, ?> body = objectMapper.readValue(TOKEN_RESPONSE, Map.class);
+            return (String) body.get("access_token") + ((Number) body.get("expires_in")).longValue();
+        });
+        Result typed = measure("stream /token", WARMUP, ITERATIONS, () -> {
+            GraphTokenResponse token = GraphResponseParser.readToken(TOKEN_RESPONSE);
+            return token.accessToken() + token.expiresIn();
+        });
+        assertTrue(typed.bytesPerOp() < map.bytesPerOp(), "streaming parser should allocate less");
+    }
+}
@@ -0,0 +1,130 @@
+package com.schedulify.backend.service.user;
+
+import com.schedulify.backend.model.entity.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserIdentityCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserIdentityCache cache = new UserIdentityCache(meterRegistry, TTL.toMillis(), 2, clock::get);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void identitiesAreCachedUntilTheTtlExpires() {
+        get("a@example.com", 1L);
+        clock.addAndGet(TTL.toNanos() - 1);
+        get("a@example.com", 1L);
+        assertEquals(1, loads.get());
+
+        clock.addAndGet(1);
+        get("a@example.com", 1L);
+
+        assertEquals(2, loads.get());
+        assertEquals(1, meterRegistry.counter("schedulify.user-cache.lookups", "result", "hit").count());
+        assertEquals(2, meterRegistry.counter("schedulify.user-cache.lookups", "result", "miss").count());
+    }
+
+    @Test
+    void theLeastRecentlyUsedEntryIsDroppedWhenFull() {
+        get("a@example.com", 1L);
+        get("b@example.com", 2L);
+        get("a@example.com", 1L);
+        get("c@example.com", 3L);
+        loads.set(0);
+
+        get("a@example.com", 1L);
+        get("c@example.com", 3L);
+        assertEquals(0, loads.get());
+        get("b@example.com", 2L);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void unknownUsersAreNotCached() {
+        cache.get("nobody@example.com", () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        cache.get("nobody@example.com", () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidatingAUserDropsOnlyTheirEntry() {
+        get("a@example.com", 1L);
+        get("b@example.com", 2L);
+
+        cache.invalidate(1L);
+        loads.set(0);
+        get("a@example.com", 1L);
+        get("b@example.com", 2L);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void aLoadThatStartedBeforeAnInvalidationIsNotCached() {
+        Optional<UserIdentity> loaded = cache.get("a@example.com", () -> {
+            // The row is changed and the cache invalidated while this (now stale) row is being read
+            cache.invalidate(1L);
+            return Optional.of(identity(1L, "a@example.com"));
+        });
+
+        assertTrue(loaded.isPresent());
+        get("a@example.com", 1L);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void anInvalidationInsideATransactionIsRepeatedAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidate(1L);
+
+        // Another request reads the old, still committed row before the change commits
+        get("a@example.com", 1L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        get("a@example.com", 1L);
+
+        assertEquals(2, loads.get());
+    }
+
+    private void get(String email, Long id) {
+        cache.get(email, () -> {
+            loads.incrementAndGet();
+            return Optional.of(identity(id, email));
+        });
+    }
+
+    private static UserIdentity identity(Long id, String email) {
+        return new UserIdentity(id, email, "User " + id, null, List.of(Role.RoleType.ROLE_USER),
+                true, true, true, true);
+    }
+}
@@ -0,0 +1,49 @@
+package com.schedulify.backend.support;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Harness for the micro-benchmarks tagged {@code benchmark}: time and heap allocated per
+ * operation, measured on the calling thread after a warmup.
+ */
+public final class MicroBenchmark {
+
+    private MicroBenchmark() {
+    }
+
+    /**
+     * Operation under measurement. Its result is consumed so the JIT cannot drop the work.
+     */
+    @FunctionalInterface
+    public interface Operation {
+        Object run() throws Exception;
+    }
+
+    public record Result(double nanosPerOp, double bytesPerOp) {
+    }
+
+    /**
+     * Run {@code operation} {@code warmup} times, then measure {@code iterations} runs and print
+     * the result under {@code name}.
+     */
+    public static Result measure(String name, int warmup, int iterations, Operation operation) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int sink = 0;
+        for (int i = 0; i < warmup; i++) {
+            sink += operation.run().hashCode();
+        }
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.run().hashCode();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        Result result = new Result((double) elapsed / iterations, (double) allocated / iterations);
+        System.out.printf("%s: %8.1f ns/op %8.1f B/op (%d)%n", name, result.nanosPerOp(), result.bytesPerOp(), sink & 1);
+        return result;
+    }
+}